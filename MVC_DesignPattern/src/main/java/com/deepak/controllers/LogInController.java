@@ -5,10 +5,19 @@ import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.deepak.dbConnection.DatabaseConnection;
 import com.deepak.models.User;
+import com.deepak.security.HashingExecutor;
+import com.deepak.security.PasswordHasher;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
@@ -17,53 +26,159 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 
-@WebServlet(name = "Login", urlPatterns = { "/login" })
+/**
+ * Login runs in two passes. The container thread loads the user row and hands the
+ * password check to the HashingExecutor; the worker dispatches the request back
+ * here, and the second (ASYNC) pass stores any upgraded hash and renders the page.
+ */
+@WebServlet(name = "Login", urlPatterns = { "/login" }, asyncSupported = true)
 public class LogInController extends HttpServlet {
 
+	private static final Logger log = LoggerFactory.getLogger(LogInController.class);
+
+	private static final String AUTHENTICATED = "login.authenticated";
+	private static final String UPGRADED_HASH = "login.upgradedHash";
+	private static final long ASYNC_TIMEOUT_MILLIS = 10_000;
+	private static final String DUMMY_HASH = PasswordHasher.hash("not-a-real-password");
+
 	@Override
 	protected void doPost(HttpServletRequest req, HttpServletResponse response) throws ServletException, IOException {
+		if (req.getDispatcherType() == DispatcherType.ASYNC) {
+			render(req, response);
+			return;
+		}
+
+		String loginid = req.getParameter("loginId");
+		String password = req.getParameter("password");
+		if (loginid == null || loginid.isBlank() || password == null || password.isEmpty()) {
+			// nothing to check, so no hashing work and no async round trip
+			render(req, response);
+			return;
+		}
+
+		try {
+			verify(req, response, password, findUser(loginid));
+		} catch (SQLException e) {
+			log.error("User lookup for login failed", e);
+			response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	private void verify(HttpServletRequest req, HttpServletResponse response, String password, StoredUser stored)
+			throws IOException {
+		AsyncContext async = req.startAsync();
+		async.setTimeout(ASYNC_TIMEOUT_MILLIS);
+		try {
+			HashingExecutor.dispatchAfter(async, () -> {
+				// Unknown ids are checked against a dummy hash so they take as long as wrong passwords
+				String storedHash = stored != null ? stored.passwordHash() : DUMMY_HASH;
+				if (PasswordHasher.matches(password, storedHash) && stored != null) {
+					req.setAttribute(AUTHENTICATED, stored);
+					if (PasswordHasher.needsRehash(storedHash)) {
+						req.setAttribute(UPGRADED_HASH, PasswordHasher.hash(password));
+					}
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// Hashing pool saturated: shed load instead of queueing more CPU work
+			response.setHeader("Retry-After", "1");
+			response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+			async.complete();
+		}
+	}
+
+	private void render(HttpServletRequest req, HttpServletResponse response) throws ServletException, IOException {
 		PrintWriter out = response.getWriter();
 		response.setContentType("text/html");
 
-		try {
-			String loginid = req.getParameter("loginId");
-			String password = req.getParameter("password");
-
-			try {
-				Connection connection = DatabaseConnection.getConnection();
-				String selectQueryString = "SELECT * FROM users WHERE (email = ? OR mobile_no = ?) AND password = ?";
-				PreparedStatement ps = connection.prepareStatement(selectQueryString);
-				ps.setString(1, loginid); // check email
-				ps.setString(2, loginid); // check mobile number
-				ps.setString(3, password); // check password
-
-				ResultSet rs = ps.executeQuery();
-				if (rs.next()) {
-					// User found, login successful
-					User user = new User();
-					user.setName(rs.getString("name"));
-					user.setEmail(rs.getString("email"));
-					user.setMobileNo(rs.getString("mobile_no"));
-					user.setAge(rs.getInt("age"));
-
-					HttpSession session = req.getSession();
-					session.setAttribute("user", user);
-
-					RequestDispatcher requestDispatcher = req.getRequestDispatcher("/profile.jsp");
-					requestDispatcher.forward(req, response);
-				} else {
-					// User not found, login failed
-					out.println("<h3 style='color:red'> Invalid login credentials!</h3>");
-					RequestDispatcher requestDispatcher = req.getRequestDispatcher("/login.html");
-					requestDispatcher.include(req, response);
+		StoredUser stored = (StoredUser) req.getAttribute(AUTHENTICATED);
+		if (stored != null) {
+			// User found, login successful
+			User user = stored.user();
+			String upgradedHash = (String) req.getAttribute(UPGRADED_HASH);
+			if (upgradedHash != null) {
+				try {
+					updatePasswordHash(stored, upgradedHash);
+				} catch (SQLException e) {
+					// the old value still works; the upgrade is retried on the next login
+					log.warn("Could not upgrade the password hash of user {}", stored.id(), e);
+				}
+			}
+			HttpSession session = req.getSession();
+			session.setAttribute("user", user);
+
+			RequestDispatcher requestDispatcher = req.getRequestDispatcher("/profile.jsp");
+			requestDispatcher.forward(req, response);
+		} else {
+			// User not found, login failed
+			out.println("<h3 style='color:red'> Invalid login credentials!</h3>");
+			RequestDispatcher requestDispatcher = req.getRequestDispatcher("/login.html");
+			requestDispatcher.include(req, response);
+		}
+	}
+
+	// email and mobile_no each have their own unique index (see db/migration/V2), so
+	// the lookup picks one column instead of "email = ? OR mobile_no = ?", which cannot use either.
+	private static final String FIND_BY_EMAIL = "SELECT id, name, email, mobile_no, age, password FROM users WHERE email = ?";
+	private static final String FIND_BY_MOBILE = "SELECT id, name, email, mobile_no, age, password FROM users WHERE mobile_no = ?";
+
+	private StoredUser findUser(String loginid) throws SQLException {
+		if (loginid == null || loginid.isBlank()) {
+			return null;
+		}
+		loginid = loginid.trim();
+		String selectQueryString;
+		if (loginid.indexOf('@') >= 0) {
+			selectQueryString = FIND_BY_EMAIL;
+		} else if (isMobileNo(loginid)) {
+			selectQueryString = FIND_BY_MOBILE;
+		} else {
+			return null; // neither an email nor a phone number: no need to ask the database
+		}
+
+		try (Connection connection = DatabaseConnection.getConnection();
+				PreparedStatement ps = connection.prepareStatement(selectQueryString)) {
+			ps.setString(1, loginid);
+
+			try (ResultSet rs = ps.executeQuery()) {
+				if (!rs.next()) {
+					return null;
 				}
-			} catch (Exception e) {
-				e.printStackTrace();
+				User user = new User();
+				user.setName(rs.getString("name"));
+				user.setEmail(rs.getString("email"));
+				user.setMobileNo(rs.getString("mobile_no"));
+				user.setAge(rs.getInt("age"));
+				return new StoredUser(rs.getLong("id"), user, rs.getString("password"));
 			}
+		}
+	}
 
-		} catch (Exception e) {
-			e.printStackTrace();
+	static boolean isMobileNo(String loginid) {
+		for (int i = 0; i < loginid.length(); i++) {
+			char c = loginid.charAt(i);
+			if ((c < '0' || c > '9') && !(c == '+' && i == 0)) {
+				return false;
+			}
 		}
+		return loginid.length() > 1;
+	}
+
+	// Replaces a legacy plaintext password (or an older, cheaper hash) after a successful login.
+	// Keyed on the primary key, and only if the row still holds the value that was just verified,
+	// so a password changed in the meantime is never overwritten.
+	private void updatePasswordHash(StoredUser stored, String passwordHash) throws SQLException {
+		try (Connection connection = DatabaseConnection.getConnection();
+				PreparedStatement ps = connection
+						.prepareStatement("UPDATE users SET password = ? WHERE id = ? AND password = ?")) {
+			ps.setString(1, passwordHash);
+			ps.setLong(2, stored.id());
+			ps.setString(3, stored.passwordHash());
+			ps.executeUpdate();
+		}
+	}
+
+	private record StoredUser(long id, User user, String passwordHash) {
 	}
 
 }
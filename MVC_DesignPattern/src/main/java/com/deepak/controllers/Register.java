@@ -4,9 +4,19 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.deepak.dbConnection.DatabaseConnection;
+import com.deepak.security.HashingExecutor;
+import com.deepak.security.PasswordHasher;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
@@ -14,36 +24,77 @@ import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+/**
+ * The form is validated first, so a bad request never costs a hash. The password is
+ * then hashed on the HashingExecutor; the worker dispatches the request back here and
+ * the second (ASYNC) pass inserts the row and renders the page.
+ */
 @SuppressWarnings("serial")
-@WebServlet(name = "Register", urlPatterns = { "/register" })
+@WebServlet(name = "Register", urlPatterns = { "/register" }, asyncSupported = true)
 public class Register extends HttpServlet {
 
+	private static final Logger log = LoggerFactory.getLogger(Register.class);
+
+	private static final String REGISTRATION = "register.registration";
+	private static final String PASSWORD_HASH = "register.passwordHash";
+	private static final long ASYNC_TIMEOUT_MILLIS = 10_000;
+
 	@Override
 	protected void doPost(HttpServletRequest req, HttpServletResponse response) throws ServletException, IOException {
+		if (req.getDispatcherType() != DispatcherType.ASYNC) {
+			String password = req.getParameter("password");
+			if (password == null || password.isEmpty()) {
+				// rejected before any hashing work is queued
+				fail(req, response, HttpServletResponse.SC_BAD_REQUEST, "Password is required!");
+				return;
+			}
+			Registration registration;
+			try {
+				registration = Registration.parse(req);
+			} catch (IllegalArgumentException e) {
+				fail(req, response, HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+				return;
+			}
+			req.setAttribute(REGISTRATION, registration);
+			AsyncContext async = req.startAsync();
+			async.setTimeout(ASYNC_TIMEOUT_MILLIS);
+			try {
+				HashingExecutor.dispatchAfter(async, () -> req.setAttribute(PASSWORD_HASH, PasswordHasher.hash(password)));
+			} catch (RejectedExecutionException e) {
+				// Hashing pool saturated: shed load instead of queueing more CPU work
+				response.setHeader("Retry-After", "1");
+				response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+				async.complete();
+			}
+			return;
+		}
+
+		Registration registration = (Registration) req.getAttribute(REGISTRATION);
+		String passwordHash = (String) req.getAttribute(PASSWORD_HASH);
+		if (passwordHash == null) {
+			// hashing failed on the worker (already logged there)
+			fail(req, response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Internal error occurred!");
+			return;
+		}
+
 		PrintWriter out = response.getWriter();
 
 		response.setContentType("text/html");
 
-		String name = req.getParameter("name");
-		String emailId = req.getParameter("email");
-		String mobileNo = req.getParameter("mobile");
-		int age = Integer.parseInt(req.getParameter("age"));
-		String password = req.getParameter("password");
-
 		try {
+			int rowsAffected;
+			try (Connection connection = DatabaseConnection.getConnection();
+					PreparedStatement pStatement = connection
+							.prepareStatement("INSERT INTO users (name,email,mobile_no,age,password) VALUES (?,?,?,?,?)")) {
 
-			Connection connection = DatabaseConnection.getConnection();
-
-			PreparedStatement pStatement = connection
-					.prepareStatement("INSERT INTO users (name,email,mobile_no,age,password) VALUES (?,?,?,?,?)");
+				pStatement.setString(1, registration.name());
+				pStatement.setString(2, registration.email());
+				pStatement.setString(3, registration.mobileNo());
+				pStatement.setInt(4, registration.age());
+				pStatement.setString(5, passwordHash);
 
-			pStatement.setString(1, name);
-			pStatement.setString(2, emailId);
-			pStatement.setString(3, mobileNo);
-			pStatement.setInt(4, age);
-			pStatement.setString(5, password); // Use hashed password here!
-
-			int rowsAffected = pStatement.executeUpdate();
+				rowsAffected = pStatement.executeUpdate();
+			}
 			if (rowsAffected > 0) {
 				out.println("<h3 style='color:green'> User registered successfully!</h3>");
 				RequestDispatcher requestDispatcher = req.getRequestDispatcher("/login.html");
@@ -53,9 +104,69 @@ public class Register extends HttpServlet {
 				RequestDispatcher requestDispatcher = req.getRequestDispatcher("/register.html");
 				requestDispatcher.include(req, response);
 			}
-		} catch (Exception e) {
-			e.printStackTrace();
+		} catch (SQLIntegrityConstraintViolationException e) {
+			// uk_users_email / uk_users_mobile_no (db/migration/V2): the account already exists
+			String field = e.getMessage() != null && e.getMessage().contains("uk_users_mobile_no") ? "mobile number"
+					: "email";
+			response.setStatus(HttpServletResponse.SC_CONFLICT);
+			out.println("<h3 style='color:red'> An account with this " + field + " is already registered!</h3>");
+			RequestDispatcher requestDispatcher = req.getRequestDispatcher("/register.html");
+			requestDispatcher.include(req, response);
+		} catch (SQLException e) {
+			log.error("Registration of {} failed", registration.email(), e);
+			response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
 			out.println("<h3 style='color:red'> Internal error occurred!</h3>");
+			RequestDispatcher requestDispatcher = req.getRequestDispatcher("/register.html");
+			requestDispatcher.include(req, response);
+		}
+	}
+
+	private void fail(HttpServletRequest req, HttpServletResponse response, int status, String message)
+			throws ServletException, IOException {
+		response.setStatus(status);
+		response.setContentType("text/html");
+		response.getWriter().println("<h3 style='color:red'> " + message + "</h3>");
+		RequestDispatcher requestDispatcher = req.getRequestDispatcher("/register.html");
+		requestDispatcher.include(req, response);
+	}
+
+	/**
+	 * The form fields, checked and parsed before any hashing work is queued. Email and
+	 * mobile number are trimmed and must have the shape LogInController.findUser routes
+	 * on, so every account that is stored can also log in.
+	 */
+	private record Registration(String name, String email, String mobileNo, int age) {
+
+		private static final int MAX_AGE = 120;
+
+		static Registration parse(HttpServletRequest req) {
+			String name = trim(req.getParameter("name"));
+			if (name == null || name.isEmpty()) {
+				throw new IllegalArgumentException("Name is required!");
+			}
+			String email = trim(req.getParameter("email"));
+			int at = email == null ? -1 : email.indexOf('@');
+			if (at <= 0 || at == email.length() - 1) {
+				throw new IllegalArgumentException("A valid email address is required!");
+			}
+			String mobileNo = trim(req.getParameter("mobile"));
+			if (mobileNo == null || !LogInController.isMobileNo(mobileNo)) {
+				throw new IllegalArgumentException("A valid mobile number is required!");
+			}
+			int age;
+			try {
+				age = Integer.parseInt(trim(req.getParameter("age")));
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("Age must be a number!");
+			}
+			if (age < 0 || age > MAX_AGE) {
+				throw new IllegalArgumentException("Age must be between 0 and " + MAX_AGE + "!");
+			}
+			return new Registration(name, email, mobileNo, age);
+		}
+
+		private static String trim(String value) {
+			return value == null ? null : value.trim();
 		}
 	}
 
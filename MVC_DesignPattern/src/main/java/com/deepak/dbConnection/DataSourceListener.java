@@ -0,0 +1,56 @@
+package com.deepak.dbConnection;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+
+/**
+ * Creates the connection pool (HikariCP, from WEB-INF/lib) once when the web
+ * application starts and closes it when the application is stopped or redeployed.
+ *
+ * HikariCP resets auto-commit, read-only, isolation and catalog on every
+ * connection handed back, validates connections before reuse, retires them after
+ * maxLifetime and reports connections held longer than the leak threshold with
+ * the stack trace of the borrower.
+ */
+@WebListener
+public class DataSourceListener implements ServletContextListener {
+
+	public static final String DATA_SOURCE_ATTRIBUTE = "com.deepak.dbConnection.dataSource";
+
+	private static final String URL = "jdbc:mysql://localhost:3306/mvc_db";
+	private static final String USER = "root";
+	private static final String PASSWORD = "Root@1234";
+
+	private static final int MAX_POOL_SIZE = 10;
+	private static final long ACQUIRE_TIMEOUT_MILLIS = 5_000;
+	private static final long LEAK_THRESHOLD_MILLIS = 10_000;
+
+	@Override
+	public void contextInitialized(ServletContextEvent sce) {
+		HikariConfig config = new HikariConfig();
+		config.setPoolName("mvc-db");
+		config.setDriverClassName("com.mysql.cj.jdbc.Driver");
+		config.setJdbcUrl(URL);
+		config.setUsername(USER);
+		config.setPassword(PASSWORD);
+		config.setMaximumPoolSize(MAX_POOL_SIZE);
+		config.setConnectionTimeout(ACQUIRE_TIMEOUT_MILLIS);
+		config.setLeakDetectionThreshold(LEAK_THRESHOLD_MILLIS);
+		// Let the pool start even while MySQL is still coming up; the first borrow connects
+		config.setInitializationFailTimeout(-1);
+
+		HikariDataSource pool = new HikariDataSource(config);
+		DatabaseConnection.init(pool);
+		sce.getServletContext().setAttribute(DATA_SOURCE_ATTRIBUTE, pool);
+	}
+
+	@Override
+	public void contextDestroyed(ServletContextEvent sce) {
+		sce.getServletContext().removeAttribute(DATA_SOURCE_ATTRIBUTE);
+		DatabaseConnection.shutdown();
+	}
+}
@@ -1,19 +1,43 @@
 package com.deepak.dbConnection;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
+import java.sql.SQLException;
 
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Holds the application's single pooled DataSource. The pool is created by
+ * DataSourceListener when the servlet context starts and closed when it stops;
+ * every caller borrows with try-with-resources so the connection goes back to it.
+ */
 public class DatabaseConnection {
 
-	public static Connection getConnection() {
-		Connection connection = null;
-		try {
-			Class.forName("com.mysql.cj.jdbc.Driver");
-			connection = DriverManager.getConnection("jdbc:mysql://localhost:3306/mvc_db", "root", "Root@1234");
-			// System.out.println("Database connected successfully.");
-		} catch (Exception e) {
-			e.printStackTrace();
+	private static volatile HikariDataSource dataSource;
+
+	static synchronized void init(HikariDataSource pool) {
+		if (dataSource != null) {
+			pool.close();
+			throw new IllegalStateException("Connection pool already initialised");
+		}
+		dataSource = pool;
+	}
+
+	static synchronized void shutdown() {
+		if (dataSource != null) {
+			dataSource.close();
+			dataSource = null;
 		}
-		return connection;
+	}
+
+	public static HikariDataSource getDataSource() {
+		HikariDataSource ds = dataSource;
+		if (ds == null) {
+			throw new IllegalStateException("Connection pool not initialised; is DataSourceListener registered?");
+		}
+		return ds;
+	}
+
+	public static Connection getConnection() throws SQLException {
+		return getDataSource().getConnection();
 	}
 }
@@ -0,0 +1,110 @@
+package com.deepak.security;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * The dedicated pool that runs password hashing and verification. One thread per
+ * core keeps the CPU-bound work from piling onto the servlet container's threads,
+ * and the bounded queue makes a login burst fail fast (RejectedExecutionException,
+ * answered with 503) instead of queueing without limit.
+ */
+public class HashingExecutor {
+
+	private static final Logger log = LoggerFactory.getLogger(HashingExecutor.class);
+
+	private static final int THREADS = Runtime.getRuntime().availableProcessors();
+	private static final int QUEUE_CAPACITY = 64 * THREADS;
+
+	private static volatile ThreadPoolExecutor executor;
+
+	static synchronized ThreadPoolExecutor init() {
+		if (executor == null) {
+			AtomicInteger count = new AtomicInteger();
+			executor = new ThreadPoolExecutor(THREADS, THREADS, 0L, TimeUnit.MILLISECONDS,
+					new ArrayBlockingQueue<>(QUEUE_CAPACITY), r -> {
+						Thread t = new Thread(r, "password-hashing-" + count.incrementAndGet());
+						t.setDaemon(true);
+						return t;
+					}, new ThreadPoolExecutor.AbortPolicy());
+		}
+		return executor;
+	}
+
+	static synchronized void shutdown() throws InterruptedException {
+		if (executor != null) {
+			executor.shutdown();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+			executor = null;
+		}
+	}
+
+	public static Executor get() {
+		Executor e = executor;
+		if (e == null) {
+			throw new IllegalStateException("Hashing executor not initialised; is HashingExecutorListener registered?");
+		}
+		return e;
+	}
+
+	/**
+	 * Runs the work on the pool and then dispatches the request back to its servlet.
+	 * The dispatch happens even if the work throws. If the async timeout fires first,
+	 * the request is answered with 503 and the late dispatch is skipped, so the
+	 * request is always completed exactly once.
+	 *
+	 * @throws RejectedExecutionException when the pool is saturated
+	 */
+	public static void dispatchAfter(AsyncContext async, Runnable work) {
+		AtomicBoolean finished = new AtomicBoolean();
+		async.addListener(new AsyncListener() {
+			@Override
+			public void onTimeout(AsyncEvent event) throws IOException {
+				if (finished.compareAndSet(false, true)) {
+					HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+					response.setHeader("Retry-After", "1");
+					response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+					event.getAsyncContext().complete();
+				}
+			}
+
+			@Override
+			public void onComplete(AsyncEvent event) {
+			}
+
+			@Override
+			public void onError(AsyncEvent event) {
+			}
+
+			@Override
+			public void onStartAsync(AsyncEvent event) {
+			}
+		});
+		get().execute(() -> {
+			try {
+				work.run();
+			} catch (RuntimeException e) {
+				// the servlet's second pass sees the missing result and answers with an error page
+				log.error("Password hashing task failed", e);
+			} finally {
+				if (finished.compareAndSet(false, true)) {
+					async.dispatch();
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,26 @@
+package com.deepak.security;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+
+/**
+ * Starts the password hashing pool with the web application and stops it on shutdown.
+ */
+@WebListener
+public class HashingExecutorListener implements ServletContextListener {
+
+	@Override
+	public void contextInitialized(ServletContextEvent sce) {
+		HashingExecutor.init();
+	}
+
+	@Override
+	public void contextDestroyed(ServletContextEvent sce) {
+		try {
+			HashingExecutor.shutdown();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
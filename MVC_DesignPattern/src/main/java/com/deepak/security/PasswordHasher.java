@@ -0,0 +1,96 @@
+package com.deepak.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * Salted, deliberately slow password hashing with PBKDF2-HMAC-SHA512 (JDK only).
+ *
+ * Hashes are stored as pbkdf2_sha512$iterations$salt$hash, so the work factor can
+ * be raised later: needsRehash() reports hashes made with fewer iterations, and the
+ * login path re-hashes them after a successful check.
+ */
+public final class PasswordHasher {
+
+	private static final String PREFIX = "pbkdf2_sha512";
+	private static final String ALGORITHM = "PBKDF2WithHmacSHA512";
+	// OWASP's recommended minimum for PBKDF2-HMAC-SHA512; override with -Dpassword.pbkdf2.iterations
+	public static final int ITERATIONS = Integer.getInteger("password.pbkdf2.iterations", 210_000);
+	private static final int SALT_BYTES = 16;
+	private static final int HASH_BITS = 512;
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private PasswordHasher() {
+	}
+
+	public static String hash(String password) {
+		byte[] salt = new byte[SALT_BYTES];
+		RANDOM.nextBytes(salt);
+		byte[] hash = pbkdf2(password, salt, ITERATIONS);
+		Base64.Encoder b64 = Base64.getEncoder().withoutPadding();
+		return PREFIX + "$" + ITERATIONS + "$" + b64.encodeToString(salt) + "$" + b64.encodeToString(hash);
+	}
+
+	/**
+	 * Checks a password against a stored value. Values that are not in the hash
+	 * format are legacy plaintext rows; they are still compared (in constant time)
+	 * so those users can log in once and get upgraded.
+	 */
+	public static boolean matches(String password, String stored) {
+		if (password == null || stored == null) {
+			return false;
+		}
+		if (!isHashed(stored)) {
+			return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8),
+					stored.getBytes(StandardCharsets.UTF_8));
+		}
+		String[] parts = stored.split("\\$");
+		if (parts.length != 4) {
+			return false;
+		}
+		try {
+			int iterations = Integer.parseInt(parts[1]);
+			Base64.Decoder b64 = Base64.getDecoder();
+			byte[] salt = b64.decode(parts[2]);
+			byte[] expected = b64.decode(parts[3]);
+			return MessageDigest.isEqual(expected, pbkdf2(password, salt, iterations));
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	public static boolean isHashed(String stored) {
+		return stored != null && stored.startsWith(PREFIX + "$");
+	}
+
+	/** True for legacy plaintext values and for hashes made with a lower work factor. */
+	public static boolean needsRehash(String stored) {
+		if (!isHashed(stored)) {
+			return true;
+		}
+		String[] parts = stored.split("\\$");
+		try {
+			return parts.length != 4 || Integer.parseInt(parts[1]) < ITERATIONS;
+		} catch (NumberFormatException e) {
+			return true;
+		}
+	}
+
+	private static byte[] pbkdf2(String password, byte[] salt, int iterations) {
+		PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, HASH_BITS);
+		try {
+			return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(ALGORITHM + " is not available", e);
+		} finally {
+			spec.clearPassword();
+		}
+	}
+}
@@ -0,0 +1,3 @@
+-- Passwords are stored as PBKDF2 hashes (pbkdf2_sha512$iterations$salt$hash, about 135 characters)
+-- instead of plaintext. Existing plaintext rows keep working and are re-hashed on their next login.
+ALTER TABLE users MODIFY password VARCHAR(255) NOT NULL;
@@ -0,0 +1,19 @@
+-- Login looks a user up by exactly one of these columns (LogInController.findUser), and
+-- registration relies on them being unique. Both lookups become single index probes, so
+-- login latency no longer grows with the size of the users table.
+
+-- Login and Register trim both values, so stored values must be trimmed too
+UPDATE users SET email = TRIM(email), mobile_no = TRIM(mobile_no);
+
+-- Existing duplicates would make the unique indexes fail. The oldest row per email and per
+-- mobile number is kept; every later row that shares either value is copied to
+-- users_duplicates for manual review and then removed from users.
+CREATE TABLE users_duplicates AS
+SELECT u.* FROM users u
+WHERE EXISTS (SELECT 1 FROM users k
+              WHERE k.id < u.id AND (k.email = u.email OR k.mobile_no = u.mobile_no));
+
+DELETE u FROM users u JOIN users_duplicates d ON d.id = u.id;
+
+CREATE UNIQUE INDEX uk_users_email ON users (email);
+CREATE UNIQUE INDEX uk_users_mobile_no ON users (mobile_no);
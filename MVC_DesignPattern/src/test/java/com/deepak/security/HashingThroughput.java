@@ -0,0 +1,70 @@
+package com.deepak.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many logins per second the password check allows, overall and per
+ * core, for 1 thread up to one thread per core. A development tool, kept out of the
+ * deployed WAR. Compile it next to PasswordHasher and run it with:
+ *
+ * javac -d /tmp/hashing src/main/java/com/deepak/security/PasswordHasher.java src/test/java/com/deepak/security/HashingThroughput.java
+ * java -cp /tmp/hashing com.deepak.security.HashingThroughput [seconds per step]
+ *
+ * Add -Dpassword.pbkdf2.iterations=N to see the effect of another work factor.
+ */
+public class HashingThroughput {
+
+	public static void main(String[] args) throws Exception {
+		long seconds = args.length > 0 ? Long.parseLong(args[0]) : 5;
+		int cores = Runtime.getRuntime().availableProcessors();
+		String stored = PasswordHasher.hash("correct horse battery staple");
+
+		// warm up the JIT on the PBKDF2 loop
+		for (int i = 0; i < 20; i++) {
+			PasswordHasher.matches("correct horse battery staple", stored);
+		}
+
+		System.out.printf("PBKDF2-HMAC-SHA512, %d iterations, %d cores%n", PasswordHasher.ITERATIONS, cores);
+		System.out.printf("%8s %14s %18s%n", "threads", "logins/s", "logins/s/thread");
+		for (int threads = 1; threads <= cores; threads *= 2) {
+			report(threads, measure(threads, seconds, stored));
+			if (threads < cores && threads * 2 > cores) {
+				report(cores, measure(cores, seconds, stored));
+			}
+		}
+	}
+
+	private static double measure(int threads, long seconds, String stored) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+		long start = System.nanoTime();
+		List<Future<Long>> results = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			results.add(pool.submit(() -> {
+				long count = 0;
+				while (System.nanoTime() < deadline) {
+					if (PasswordHasher.matches("correct horse battery staple", stored)) {
+						count++;
+					}
+				}
+				return count;
+			}));
+		}
+		long total = 0;
+		for (Future<Long> result : results) {
+			total += result.get();
+		}
+		double elapsed = (System.nanoTime() - start) / 1e9;
+		pool.shutdown();
+		return total / elapsed;
+	}
+
+	private static void report(int threads, double perSecond) {
+		System.out.printf("%8d %14.1f %18.1f%n", threads, perSecond, perSecond / threads);
+	}
+}
@@ -0,0 +1,18 @@
+package com.deepak.dao;
+
+/**
+ * Outcome of one UserDao batch call. rowsAffected is -1 when the driver did not
+ * report per-row counts (MySQL returns SUCCESS_NO_INFO for rewritten batches).
+ */
+public record BatchReport(String operation, int rows, int rowsAffected, int chunks, long elapsedNanos) {
+
+	public double rowsPerSecond() {
+		return elapsedNanos == 0 ? 0 : rows * 1_000_000_000.0 / elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s: %d rows in %d chunks, %.1f ms, %.0f rows/s%s", operation, rows, chunks,
+				elapsedNanos / 1e6, rowsPerSecond(), rowsAffected < 0 ? "" : ", " + rowsAffected + " affected");
+	}
+}
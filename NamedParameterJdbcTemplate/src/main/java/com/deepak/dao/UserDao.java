@@ -0,0 +1,67 @@
+package com.deepak.dao;
+
+import java.sql.Statement;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deepak.entities.User;
+
+/**
+ * Inserts into the users table straight from User beans: the :name, :email and
+ * :password placeholders are read from the bean's getters through
+ * BeanPropertySqlParameterSource, so no Map is built per row.
+ *
+ * batchInsert() sends chunkSize rows per JDBC batch; the named SQL is parsed and
+ * rewritten to '?' placeholders once per chunk instead of once per row, and only
+ * one chunk of parameter sources exists at a time. All chunks of one call run in a
+ * single transaction, so a failing row rolls back the chunks already sent.
+ */
+public class UserDao {
+
+	// the users.username column is filled from User.name
+	private static final String INSERT = "INSERT INTO users (username, email, password) VALUES (:name, :email, :password)";
+
+	private final NamedParameterJdbcTemplate npJdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+
+	public UserDao(NamedParameterJdbcTemplate npJdbcTemplate, TransactionTemplate transactionTemplate, int chunkSize) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		this.npJdbcTemplate = npJdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.chunkSize = chunkSize;
+	}
+
+	public int insert(User user) {
+		return npJdbcTemplate.update(INSERT, new BeanPropertySqlParameterSource(user));
+	}
+
+	public BatchReport batchInsert(List<User> users) {
+		long start = System.nanoTime();
+		int affected = users.isEmpty() ? 0 : transactionTemplate.execute(status -> insertChunks(users));
+		int chunks = (users.size() + chunkSize - 1) / chunkSize;
+		return new BatchReport("batchInsert", users.size(), affected, chunks, System.nanoTime() - start);
+	}
+
+	// Returns the rows inserted, or -1 if the driver reported SUCCESS_NO_INFO for any of them
+	private int insertChunks(List<User> users) {
+		int affected = 0;
+		for (int from = 0; from < users.size(); from += chunkSize) {
+			List<User> chunk = users.subList(from, Math.min(from + chunkSize, users.size()));
+			for (int count : npJdbcTemplate.batchUpdate(INSERT, SqlParameterSourceUtils.createBatch(chunk))) {
+				if (count == Statement.SUCCESS_NO_INFO) {
+					affected = -1;
+				} else if (affected >= 0) {
+					affected += count;
+				}
+			}
+		}
+		return affected;
+	}
+}
@@ -1,12 +1,12 @@
 package com.deepak.main;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
+import com.deepak.dao.UserDao;
+import com.deepak.entities.User;
+import com.deepak.resources.CachingNamedParameterJdbcTemplate;
 import com.deepak.resources.SpringConfigFile;
 
 /**
@@ -27,18 +27,28 @@ public class App {
 			System.out.println("Failed to create NamedParameterJdbcTemplate bean.");
 		}
 
-		String insertQuery = "INSERT INTO users (username, email, password) VALUES (:username, :email, :password)";
-		Map<String, Object> map = new HashMap<>();
-		map.put("username", "Devendra Yadav");
-		map.put("email", "devendra@example.com");
-		map.put("password", "devendrapass");
+		UserDao userDao = context.getBean(UserDao.class);
+
+		User user = new User();
+		user.setName("Devendra Yadav");
+		user.setEmail("devendra@example.com");
+		user.setPassword("devendrapass");
 
-		int count = npJdbcTemplate.update(insertQuery, map);
+		int count = userDao.insert(user);
 		if (count > 0) {
 			System.out.println("Data inserted successfully.");
 		} else {
 			System.out.println("Failed to insert data.");
 		}
 
+		// ---------BATCH INSERT------
+		/*
+		 * List<User> users = new ArrayList<>(); for (int i = 0; i < 100_000; i++) {
+		 * User u = new User(); u.setName("user" + i); u.setEmail("user" + i +
+		 * "@example.com"); u.setPassword("pass" + i); users.add(u); }
+		 * System.out.println(userDao.batchInsert(users));
+		 */
+
+		System.out.println(context.getBean(CachingNamedParameterJdbcTemplate.class).getCacheStats());
 	}
 }
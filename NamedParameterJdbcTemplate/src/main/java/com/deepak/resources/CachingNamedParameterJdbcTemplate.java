@@ -0,0 +1,64 @@
+package com.deepak.resources;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+
+/**
+ * NamedParameterJdbcTemplate with an instrumented parsed-SQL cache.
+ *
+ * Parsing stays with the template's own bounded LRU cache (setCacheLimit), so each
+ * statement is parsed for its :name placeholders only once while it is cached.
+ * getParsedSql() counts the lookups around that cache; a lookup that returns a
+ * ParsedSql not seen before is a miss. getCacheStats() reports hits and misses,
+ * which shows whether the limit fits the application's set of statements.
+ */
+public class CachingNamedParameterJdbcTemplate extends NamedParameterJdbcTemplate {
+
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	// weak, so entries evicted from the template's cache are not kept alive here
+	private final Set<ParsedSql> seen = Collections.newSetFromMap(new WeakHashMap<>());
+
+	public CachingNamedParameterJdbcTemplate(DataSource dataSource, int cacheLimit) {
+		super(dataSource);
+		setCacheLimit(cacheLimit);
+	}
+
+	@Override
+	protected ParsedSql getParsedSql(String sql) {
+		ParsedSql parsedSql = super.getParsedSql(sql);
+		requests.increment();
+		synchronized (seen) {
+			if (seen.add(parsedSql)) {
+				misses.increment();
+			}
+		}
+		return parsedSql;
+	}
+
+	public ParsedSqlCacheStats getCacheStats() {
+		long missCount = misses.sum();
+		return new ParsedSqlCacheStats(requests.sum() - missCount, missCount, getCacheLimit());
+	}
+
+	public record ParsedSqlCacheStats(long hits, long misses, int capacity) {
+
+		public double hitRatio() {
+			long total = hits + misses;
+			return total == 0 ? 0 : (double) hits / total;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("parsed SQL cache: %d hits, %d misses (%.1f%% hit ratio), limit %d entries", hits,
+					misses, hitRatio() * 100, capacity);
+		}
+	}
+}
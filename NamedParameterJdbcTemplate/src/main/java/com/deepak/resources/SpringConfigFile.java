@@ -1,26 +1,113 @@
 package com.deepak.resources;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deepak.dao.UserDao;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 
 @Configuration
+@PropertySource("classpath:db.properties")
 public class SpringConfigFile {
 
+	@Value("${db.driver}")
+	private String driver;
+	@Value("${db.url}")
+	private String url;
+	@Value("${db.username}")
+	private String username;
+	@Value("${db.password}")
+	private String password;
+
+	@Value("${db.pool.name}")
+	private String poolName;
+	@Value("${db.pool.minimum-idle}")
+	private int minimumIdle;
+	@Value("${db.pool.maximum-size}")
+	private int maximumPoolSize;
+	@Value("${db.pool.connection-timeout-ms}")
+	private long connectionTimeout;
+	@Value("${db.pool.idle-timeout-ms}")
+	private long idleTimeout;
+	@Value("${db.pool.max-lifetime-ms}")
+	private long maxLifetime;
+	@Value("${db.pool.leak-detection-threshold-ms}")
+	private long leakDetectionThreshold;
+
+	@Value("${db.mysql.cachePrepStmts}")
+	private String cachePrepStmts;
+	@Value("${db.mysql.prepStmtCacheSize}")
+	private String prepStmtCacheSize;
+	@Value("${db.mysql.prepStmtCacheSqlLimit}")
+	private String prepStmtCacheSqlLimit;
+	@Value("${db.mysql.useServerPrepStmts}")
+	private String useServerPrepStmts;
+	@Value("${db.mysql.rewriteBatchedStatements}")
+	private String rewriteBatchedStatements;
+
+	@Value("${db.sql.parsed-cache-size}")
+	private int parsedSqlCacheSize;
+	@Value("${db.batch.chunk-size}")
+	private int batchChunkSize;
+
+	// Pooled instead of DriverManagerDataSource, which opened a new MySQL connection for every
+	// npJdbcTemplate call. The pool is closed with the context (HikariDataSource.close()).
+	// Pool gauges (active/idle/total/waiting threads) are published over JMX as
+	// com.zaxxer.hikari:type=Pool (student-db). The pooled vs. unpooled comparison lives in
+	// SpringJDBC1 (DataSourceComparison); it measures the DataSource, not the template on top.
 	@Bean
-	public DriverManagerDataSource dataSource() {
-		DriverManagerDataSource dataSource = new DriverManagerDataSource();
-		dataSource.setDriverClassName("com.mysql.cj.jdbc.Driver");
-		dataSource.setUrl("jdbc:mysql://localhost:3306/student_db");
-		dataSource.setUsername("root");
-		dataSource.setPassword("Root@1234");
-		return dataSource;
+	public HikariDataSource dataSource() {
+		HikariConfig config = new HikariConfig();
+		config.setDriverClassName(driver);
+		config.setJdbcUrl(url);
+		config.setUsername(username);
+		config.setPassword(password);
+
+		config.setPoolName(poolName);
+		config.setMinimumIdle(minimumIdle);
+		config.setMaximumPoolSize(maximumPoolSize);
+		config.setConnectionTimeout(connectionTimeout);
+		config.setIdleTimeout(idleTimeout);
+		config.setMaxLifetime(maxLifetime);
+		config.setLeakDetectionThreshold(leakDetectionThreshold);
+		config.setRegisterMbeans(true);
+
+		if (url.startsWith("jdbc:mysql:")) {
+			config.addDataSourceProperty("cachePrepStmts", cachePrepStmts);
+			config.addDataSourceProperty("prepStmtCacheSize", prepStmtCacheSize);
+			config.addDataSourceProperty("prepStmtCacheSqlLimit", prepStmtCacheSqlLimit);
+			config.addDataSourceProperty("useServerPrepStmts", useServerPrepStmts);
+			config.addDataSourceProperty("rewriteBatchedStatements", rewriteBatchedStatements);
+		}
+
+		return new HikariDataSource(config);
 	}
 
 	@Bean
-	public NamedParameterJdbcTemplate npJdbcTemplate() {
-		NamedParameterJdbcTemplate npJdbcTemplate = new NamedParameterJdbcTemplate(dataSource());
+	public CachingNamedParameterJdbcTemplate npJdbcTemplate() {
+		CachingNamedParameterJdbcTemplate npJdbcTemplate = new CachingNamedParameterJdbcTemplate(dataSource(),
+				parsedSqlCacheSize);
 		return npJdbcTemplate;
 	}
+
+	@Bean
+	public DataSourceTransactionManager transactionManager() {
+		return new DataSourceTransactionManager(dataSource());
+	}
+
+	// Wraps each UserDao.batchInsert call so its chunks commit or roll back together
+	@Bean
+	public TransactionTemplate transactionTemplate() {
+		return new TransactionTemplate(transactionManager());
+	}
+
+	@Bean
+	public UserDao userDao() {
+		return new UserDao(npJdbcTemplate(), transactionTemplate(), batchChunkSize);
+	}
 }
@@ -0,0 +1,89 @@
+package com.deepak.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deepak.entities.User;
+
+import junit.framework.TestCase;
+
+/**
+ * UserDao against an in-memory H2 database, with a chunk size of 2 so every batch
+ * below is split into several JDBC batches.
+ */
+public class UserDaoTest extends TestCase {
+
+	private static int databases;
+
+	private JdbcTemplate jdbcTemplate;
+	private UserDao userDao;
+
+	@Override
+	protected void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:npuserdao" + (++databases) + ";DB_CLOSE_DELAY=-1", "sa", "");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE users (id INT AUTO_INCREMENT PRIMARY KEY, "
+				+ "username VARCHAR(50) NOT NULL UNIQUE, email VARCHAR(100), password VARCHAR(100))");
+		TransactionTemplate transactions = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		userDao = new UserDao(new NamedParameterJdbcTemplate(dataSource), transactions, 2);
+	}
+
+	@Override
+	protected void tearDown() {
+		jdbcTemplate.execute("SHUTDOWN");
+	}
+
+	public void testBatchInsertWritesEveryRowInChunks() {
+		BatchReport report = userDao.batchInsert(users("a", "b", "c", "d", "e"));
+
+		assertEquals(5, report.rows());
+		assertEquals(5, report.rowsAffected());
+		assertEquals(3, report.chunks());
+		assertEquals(List.of("a", "b", "c", "d", "e"), usernames());
+	}
+
+	public void testEmptyBatchDoesNotTouchTheDatabase() {
+		BatchReport report = userDao.batchInsert(List.of());
+
+		assertEquals(0, report.rows());
+		assertEquals(0, report.rowsAffected());
+		assertEquals(0, report.chunks());
+	}
+
+	public void testFailingRowRollsBackTheChunksAlreadySent() {
+		userDao.insert(users("existing").get(0));
+
+		try {
+			// "a", "b" go out in the first chunk, the duplicate fails the second
+			userDao.batchInsert(users("a", "b", "c", "existing", "e"));
+			fail("expected the duplicate username to fail the batch");
+		} catch (DataAccessException expected) {
+		}
+
+		assertEquals(List.of("existing"), usernames());
+	}
+
+	private static List<User> users(String... usernames) {
+		List<User> users = new ArrayList<>();
+		for (String username : usernames) {
+			User user = new User();
+			user.setName(username);
+			user.setEmail(username + "@example.com");
+			user.setPassword("secret-" + username);
+			users.add(user);
+		}
+		return users;
+	}
+
+	private List<String> usernames() {
+		return jdbcTemplate.queryForList("SELECT username FROM users ORDER BY id", String.class);
+	}
+}
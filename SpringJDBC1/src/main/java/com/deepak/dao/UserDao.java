@@ -0,0 +1,130 @@
+package com.deepak.dao;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deepak.entities.User;
+import com.deepak.mappers.UserRowMapper;
+
+/**
+ * Bulk writes on the users table. Each call sends its rows to the database in
+ * JDBC batches of chunkSize statements instead of one round-trip per row; with
+ * rewriteBatchedStatements=true (see db.properties) Connector/J additionally turns
+ * every INSERT batch into a single multi-row INSERT. All chunks of one call run in
+ * a single transaction, so a failing row rolls back the chunks already sent.
+ *
+ * Reads of the whole table are streamed: forEachUser() and streamUsers() use a
+ * forward-only, read-only cursor that fetches fetchSize rows at a time (with
+ * useCursorFetch=true on MySQL), so no list of all users is ever built.
+ */
+public class UserDao {
+
+	private static final String INSERT = "INSERT INTO users (username, email, password) VALUES (?, ?, ?)";
+	private static final String UPDATE_EMAIL = "UPDATE users SET email = ? WHERE username = ?";
+	private static final String DELETE = "DELETE FROM users WHERE username = ?";
+	private static final String SELECT_ALL = "SELECT id, username, email, password FROM users ORDER BY id";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+	private final int fetchSize;
+
+	public UserDao(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, int chunkSize,
+			int fetchSize) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		if (fetchSize < 1) {
+			throw new IllegalArgumentException("fetchSize must be positive: " + fetchSize);
+		}
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.chunkSize = chunkSize;
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * Hands every user to the action, one row at a time, while the cursor is open.
+	 *
+	 * @return the number of rows processed
+	 */
+	public long forEachUser(Consumer<? super User> action) {
+		long[] rows = { 0 };
+		UserRowMapper rowMapper = new UserRowMapper(); // one per query, see IndexedRowMapper
+		jdbcTemplate.query(streamingSelect(), (ResultSet rs) -> {
+			action.accept(rowMapper.mapRow(rs, (int) rows[0]));
+			rows[0]++;
+		});
+		return rows[0];
+	}
+
+	/**
+	 * Lazily mapped users backed by an open cursor and connection; close the stream
+	 * (try-with-resources) to release them.
+	 */
+	public Stream<User> streamUsers() {
+		return jdbcTemplate.queryForStream(streamingSelect(), new UserRowMapper());
+	}
+
+	private PreparedStatementCreator streamingSelect() {
+		return con -> {
+			PreparedStatement ps = con.prepareStatement(SELECT_ALL, ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY);
+			ps.setFetchSize(fetchSize);
+			return ps;
+		};
+	}
+
+	public BatchReport batchInsert(List<User> users) {
+		return execute("batchInsert", INSERT, users, (ps, user) -> {
+			ps.setString(1, user.getUsername());
+			ps.setString(2, user.getEmail());
+			ps.setString(3, user.getPassword());
+		});
+	}
+
+	/** @param newEmailsByUsername username to its new email address */
+	public BatchReport batchUpdateEmails(Map<String, String> newEmailsByUsername) {
+		return execute("batchUpdateEmails", UPDATE_EMAIL, new ArrayList<>(newEmailsByUsername.entrySet()),
+				(ps, entry) -> {
+					ps.setString(1, entry.getValue());
+					ps.setString(2, entry.getKey());
+				});
+	}
+
+	public BatchReport batchDelete(Collection<String> usernames) {
+		return execute("batchDelete", DELETE, usernames, (ps, username) -> ps.setString(1, username));
+	}
+
+	private <T> BatchReport execute(String operation, String sql, Collection<T> rows,
+			ParameterizedPreparedStatementSetter<T> setter) {
+		long start = System.nanoTime();
+		int[][] counts = rows.isEmpty() ? new int[0][]
+				: transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(sql, rows, chunkSize, setter));
+		long elapsed = System.nanoTime() - start;
+
+		int affected = 0;
+		for (int[] chunk : counts) {
+			for (int count : chunk) {
+				if (count == Statement.SUCCESS_NO_INFO) {
+					affected = -1;
+				} else if (affected >= 0) {
+					affected += count;
+				}
+			}
+		}
+		return new BatchReport(operation, rows.size(), affected, counts.length, elapsed);
+	}
+}
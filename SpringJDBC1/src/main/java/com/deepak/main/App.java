@@ -1,13 +1,11 @@
 package com.deepak.main;
 
-import java.util.List;
-
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import com.deepak.dao.UserDao;
 import com.deepak.entities.User;
-import com.deepak.mappers.UserRowMapper;
 import com.deepak.resources.SpringConfigFile;
 
 /**
@@ -21,6 +19,7 @@ public class App {
 		System.out.println("Spring JDBC Application Started");
 
 		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+		UserDao userDao = context.getBean(UserDao.class);
 
 		// ---------INSERT QUERY------
 		/*
@@ -51,16 +50,23 @@ public class App {
 		 * else { System.out.println("Failed to delete user."); }
 		 */
 
+		// ---------BATCH QUERIES------
+		/*
+		 * List<User> newUsers = new ArrayList<>(); for (int i = 0; i < 100_000; i++) { User user = new User();
+		 * user.setUsername("user" + i); user.setEmail("user" + i + "@gmail.com");
+		 * user.setPassword("pass" + i); newUsers.add(user); }
+		 * System.out.println(userDao.batchInsert(newUsers));
+		 * System.out.println(userDao.batchUpdateEmails(Map.of("user1",
+		 * "user1@example.com")));
+		 * System.out.println(userDao.batchDelete(List.of("user2", "user3")));
+		 */
+
 		// ---------SELECT QUERY------
-		String selectQuery = "SELECT * FROM users";
-		List<User> userList = jdbcTemplate.query(selectQuery, new UserRowMapper());
-		if (userList.isEmpty()) {
+		// Streamed through a cursor: each row is printed as it arrives instead of being collected into a List
+		System.out.println("Users found:");
+		long count = userDao.forEachUser(User::display);
+		if (count == 0) {
 			System.out.println("No users found.");
-		} else {
-			System.out.println("Users found:");
-			for (User user : userList) {
-				user.display();
-			}
 		}
 	}
 }
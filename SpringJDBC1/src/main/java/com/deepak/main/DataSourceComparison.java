@@ -0,0 +1,99 @@
+package com.deepak.main;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.deepak.mappers.UserRowMapper;
+import com.deepak.resources.PoolStats;
+import com.deepak.resources.SpringConfigFile;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Runs the same "SELECT * FROM users" workload against an embedded H2 database,
+ * once through a DriverManagerDataSource (the old setup) and once through the
+ * pooled myDataSource from SpringConfigFile.
+ *
+ * Arguments: [rows] [queries per thread] [threads], default 100 2000 4.
+ *
+ * H2 in memory connects almost for free, so the gap measured here is a lower
+ * bound; against MySQL every unpooled query also pays the TCP and auth handshake.
+ */
+public class DataSourceComparison {
+
+	private static final String URL = "jdbc:h2:mem:comparison;DB_CLOSE_DELAY=-1";
+
+	public static void main(String[] args) throws Exception {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+		int queries = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+		int threads = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+
+		// System properties take precedence over db.properties
+		System.setProperty("db.driver", "org.h2.Driver");
+		System.setProperty("db.url", URL);
+		System.setProperty("db.username", "sa");
+		System.setProperty("db.password", "");
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+				SpringConfigFile.class)) {
+			JdbcTemplate pooled = context.getBean("myJdbcTemplate", JdbcTemplate.class);
+			seed(pooled, rows);
+
+			DriverManagerDataSource driverManager = new DriverManagerDataSource(URL, "sa", "");
+			driverManager.setDriverClassName("org.h2.Driver");
+
+			System.out.printf("%d rows, %d threads x %d queries%n", rows, threads, queries);
+			// one untimed pass each so both paths are JIT-compiled before measuring
+			run(new JdbcTemplate(driverManager), threads, queries / 10);
+			run(pooled, threads, queries / 10);
+
+			report("DriverManagerDataSource", run(new JdbcTemplate(driverManager), threads, queries), threads * queries);
+			report("HikariDataSource", run(pooled, threads, queries), threads * queries);
+			System.out.println(PoolStats.describe(context.getBean(HikariDataSource.class)));
+		}
+	}
+
+	private static void seed(JdbcTemplate jdbcTemplate, int rows) {
+		jdbcTemplate.execute("DROP TABLE IF EXISTS users");
+		jdbcTemplate.execute("CREATE TABLE users (id INT AUTO_INCREMENT PRIMARY KEY, username VARCHAR(100), "
+				+ "email VARCHAR(100), password VARCHAR(100))");
+		List<Object[]> batch = new ArrayList<>();
+		for (int i = 0; i < rows; i++) {
+			batch.add(new Object[] { "user" + i, "user" + i + "@example.com", "pass" + i });
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO users (username, email, password) VALUES (?, ?, ?)", batch);
+	}
+
+	private static long run(JdbcTemplate jdbcTemplate, int threads, int queries) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			long start = System.nanoTime();
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				futures.add(pool.submit(() -> {
+					for (int i = 0; i < queries; i++) {
+						jdbcTemplate.query("SELECT * FROM users", new UserRowMapper());
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			return System.nanoTime() - start;
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private static void report(String name, long nanos, int totalQueries) {
+		double seconds = nanos / 1e9;
+		System.out.printf("%-24s %8.0f queries/s %8.1f us/query%n", name, totalQueries / seconds,
+				nanos / 1000.0 / totalQueries);
+	}
+}
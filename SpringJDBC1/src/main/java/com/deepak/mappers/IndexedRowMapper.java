@@ -0,0 +1,63 @@
+package com.deepak.mappers;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Base class for hand-written row mappers that read columns by index.
+ *
+ * Reading by label makes the driver search the column names on every getXxx call
+ * of every row. Here the labels are matched against the ResultSetMetaData on the
+ * first row, and mapRow(rs, columns) reads by position for the rest of the result.
+ *
+ * A mapper holds the indexes of the query it is mapping, so it is not thread-safe:
+ * create a new one for every query (it is a handful of fields). Every label passed
+ * to the constructor is required; a result without one of them fails on the first
+ * row instead of silently leaving a property unset.
+ */
+public abstract class IndexedRowMapper<T> implements RowMapper<T> {
+
+	private final String[] columnLabels;
+	private ResultSet resolvedFor;
+	private int[] indexes;
+
+	protected IndexedRowMapper(String... columnLabels) {
+		this.columnLabels = columnLabels.clone();
+	}
+
+	@Override
+	public final T mapRow(ResultSet rs, int rowNum) throws SQLException {
+		if (rs != resolvedFor) {
+			// first row, or a mapper reused for another query: resolve against this result
+			indexes = resolve(rs.getMetaData());
+			resolvedFor = rs;
+		}
+		return mapRow(rs, indexes);
+	}
+
+	/**
+	 * @param columns the 1-based index of each label passed to the constructor, in the same order
+	 */
+	protected abstract T mapRow(ResultSet rs, int[] columns) throws SQLException;
+
+	private int[] resolve(ResultSetMetaData metaData) throws SQLException {
+		int[] resolved = new int[columnLabels.length];
+		int count = metaData.getColumnCount();
+		for (int i = 0; i < columnLabels.length; i++) {
+			for (int column = 1; column <= count; column++) {
+				if (columnLabels[i].equalsIgnoreCase(metaData.getColumnLabel(column))) {
+					resolved[i] = column;
+					break;
+				}
+			}
+			if (resolved[i] == 0) {
+				throw new SQLException("Column '" + columnLabels[i] + "' is missing from the result of "
+						+ getClass().getSimpleName());
+			}
+		}
+		return resolved;
+	}
+}
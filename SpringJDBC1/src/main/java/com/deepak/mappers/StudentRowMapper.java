@@ -0,0 +1,26 @@
+package com.deepak.mappers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.deepak.entities.Student;
+
+public class StudentRowMapper extends IndexedRowMapper<Student> {
+
+	private static final int NAME = 0, AGE = 1, EMAIL = 2, ROLL_NO = 3;
+
+	public StudentRowMapper() {
+		super("name", "age", "email", "roll_no");
+	}
+
+	@Override
+	protected Student mapRow(ResultSet rs, int[] columns) throws SQLException {
+		Student student = new Student();
+		student.setName(rs.getString(columns[NAME]));
+		student.setAge(rs.getInt(columns[AGE]));
+		student.setEmail(rs.getString(columns[EMAIL]));
+		student.setRollNo(rs.getInt(columns[ROLL_NO]));
+		return student;
+	}
+
+}
@@ -3,19 +3,23 @@ package com.deepak.mappers;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
-import org.springframework.jdbc.core.RowMapper;
-
 import com.deepak.entities.User;
 
-public class UserRowMapper implements RowMapper<User> {
+public class UserRowMapper extends IndexedRowMapper<User> {
+
+	private static final int ID = 0, USERNAME = 1, EMAIL = 2, PASSWORD = 3;
+
+	public UserRowMapper() {
+		super("id", "username", "email", "password");
+	}
 
 	@Override
-	public User mapRow(ResultSet rs, int rowNum) throws SQLException {
+	protected User mapRow(ResultSet rs, int[] columns) throws SQLException {
 		User user = new User();
-		user.setId(rs.getInt("id"));
-		user.setUsername(rs.getString("username"));
-		user.setEmail(rs.getString("email"));
-		user.setPassword(rs.getString("password"));
+		user.setId(rs.getInt(columns[ID]));
+		user.setUsername(rs.getString(columns[USERNAME]));
+		user.setEmail(rs.getString(columns[EMAIL]));
+		user.setPassword(rs.getString(columns[PASSWORD]));
 		return user;
 	}
 
@@ -0,0 +1,21 @@
+package com.deepak.resources;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * One-line snapshot of the pool gauges. The same values are available over JMX
+ * (com.zaxxer.hikari:type=Pool (name)) while the application is running.
+ */
+public class PoolStats {
+
+	public static String describe(HikariDataSource dataSource) {
+		HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+		if (pool == null) {
+			return dataSource.getPoolName() + ": not started";
+		}
+		return dataSource.getPoolName() + ": active=" + pool.getActiveConnections() + ", idle="
+				+ pool.getIdleConnections() + ", total=" + pool.getTotalConnections() + ", waiting="
+				+ pool.getThreadsAwaitingConnection();
+	}
+}
@@ -1,22 +1,94 @@
 package com.deepak.resources;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deepak.dao.UserDao;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 
 @Configuration
+@PropertySource("classpath:db.properties")
 public class SpringConfigFile {
 
+	@Value("${db.driver}")
+	private String driver;
+	@Value("${db.url}")
+	private String url;
+	@Value("${db.username}")
+	private String username;
+	@Value("${db.password}")
+	private String password;
+
+	@Value("${db.pool.name}")
+	private String poolName;
+	@Value("${db.pool.minimum-idle}")
+	private int minimumIdle;
+	@Value("${db.pool.maximum-size}")
+	private int maximumPoolSize;
+	@Value("${db.pool.connection-timeout-ms}")
+	private long connectionTimeout;
+	@Value("${db.pool.idle-timeout-ms}")
+	private long idleTimeout;
+	@Value("${db.pool.max-lifetime-ms}")
+	private long maxLifetime;
+	@Value("${db.pool.leak-detection-threshold-ms}")
+	private long leakDetectionThreshold;
+
+	@Value("${db.mysql.cachePrepStmts}")
+	private String cachePrepStmts;
+	@Value("${db.mysql.prepStmtCacheSize}")
+	private String prepStmtCacheSize;
+	@Value("${db.mysql.prepStmtCacheSqlLimit}")
+	private String prepStmtCacheSqlLimit;
+	@Value("${db.mysql.useServerPrepStmts}")
+	private String useServerPrepStmts;
+	@Value("${db.mysql.rewriteBatchedStatements}")
+	private String rewriteBatchedStatements;
+	@Value("${db.mysql.useCursorFetch}")
+	private String useCursorFetch;
+
+	@Value("${db.batch.chunk-size}")
+	private int batchChunkSize;
+	@Value("${db.stream.fetch-size}")
+	private int streamFetchSize;
+
+	// Pooled instead of DriverManagerDataSource, which opened a new MySQL connection for every
+	// JdbcTemplate call. The pool is closed with the context (HikariDataSource.close()).
+	// Pool gauges (active/idle/total/waiting threads) are published over JMX as
+	// com.zaxxer.hikari:type=Pool (student-db), see PoolStats.
 	@Bean
-	public DriverManagerDataSource myDataSource() {
-		DriverManagerDataSource dataSource = new DriverManagerDataSource();
-		dataSource.setDriverClassName("com.mysql.cj.jdbc.Driver");
-		dataSource.setUrl("jdbc:mysql://localhost:3306/student_db");
-		dataSource.setUsername("root");
-		dataSource.setPassword("Root@1234");
-
-		return dataSource;
+	public HikariDataSource myDataSource() {
+		HikariConfig config = new HikariConfig();
+		config.setDriverClassName(driver);
+		config.setJdbcUrl(url);
+		config.setUsername(username);
+		config.setPassword(password);
+
+		config.setPoolName(poolName);
+		config.setMinimumIdle(minimumIdle);
+		config.setMaximumPoolSize(maximumPoolSize);
+		config.setConnectionTimeout(connectionTimeout);
+		config.setIdleTimeout(idleTimeout);
+		config.setMaxLifetime(maxLifetime);
+		config.setLeakDetectionThreshold(leakDetectionThreshold);
+		config.setRegisterMbeans(true);
+
+		if (url.startsWith("jdbc:mysql:")) {
+			config.addDataSourceProperty("cachePrepStmts", cachePrepStmts);
+			config.addDataSourceProperty("prepStmtCacheSize", prepStmtCacheSize);
+			config.addDataSourceProperty("prepStmtCacheSqlLimit", prepStmtCacheSqlLimit);
+			config.addDataSourceProperty("useServerPrepStmts", useServerPrepStmts);
+			config.addDataSourceProperty("rewriteBatchedStatements", rewriteBatchedStatements);
+			config.addDataSourceProperty("useCursorFetch", useCursorFetch);
+		}
+
+		return new HikariDataSource(config);
 	}
 
 	@Bean
@@ -25,4 +97,20 @@ public class SpringConfigFile {
 		jdbcTemplate.setDataSource(myDataSource());
 		return jdbcTemplate;
 	}
+
+	@Bean
+	public DataSourceTransactionManager transactionManager() {
+		return new DataSourceTransactionManager(myDataSource());
+	}
+
+	// Wraps each UserDao batch call so its chunks commit or roll back together
+	@Bean
+	public TransactionTemplate transactionTemplate() {
+		return new TransactionTemplate(transactionManager());
+	}
+
+	@Bean
+	public UserDao userDao() {
+		return new UserDao(myJdbcTemplate(), transactionTemplate(), batchChunkSize, streamFetchSize);
+	}
 }
@@ -0,0 +1,139 @@
+package com.deepak.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deepak.entities.User;
+
+import junit.framework.TestCase;
+
+/**
+ * UserDao against an in-memory H2 database, with a chunk size of 2 so every call
+ * below is split into several JDBC batches.
+ */
+public class UserDaoTest extends TestCase {
+
+	private static int databases;
+
+	private JdbcTemplate jdbcTemplate;
+	private UserDao userDao;
+
+	@Override
+	protected void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:userdao" + (++databases) + ";DB_CLOSE_DELAY=-1", "sa", "");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE users (id INT AUTO_INCREMENT PRIMARY KEY, "
+				+ "username VARCHAR(50) NOT NULL UNIQUE, email VARCHAR(100), password VARCHAR(100))");
+		TransactionTemplate transactions = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		userDao = new UserDao(jdbcTemplate, transactions, 2, 2);
+	}
+
+	@Override
+	protected void tearDown() {
+		jdbcTemplate.execute("SHUTDOWN");
+	}
+
+	public void testBatchInsertWritesEveryRowInChunks() {
+		BatchReport report = userDao.batchInsert(users("a", "b", "c", "d", "e"));
+
+		assertEquals(5, report.rows());
+		assertEquals(5, report.rowsAffected());
+		assertEquals(3, report.chunks());
+		assertEquals(List.of("a", "b", "c", "d", "e"), usernames());
+	}
+
+	public void testBatchUpdateEmailsOnlyCountsExistingUsers() {
+		userDao.batchInsert(users("a", "b", "c"));
+
+		BatchReport report = userDao.batchUpdateEmails(Map.of("a", "a@new.example", "c", "c@new.example",
+				"missing", "missing@new.example"));
+
+		assertEquals(3, report.rows());
+		assertEquals(2, report.rowsAffected());
+		assertEquals("a@new.example", email("a"));
+		assertEquals("b@example.com", email("b"));
+		assertEquals("c@new.example", email("c"));
+	}
+
+	public void testBatchDeleteRemovesOnlyTheGivenUsers() {
+		userDao.batchInsert(users("a", "b", "c", "d"));
+
+		BatchReport report = userDao.batchDelete(List.of("b", "d", "missing"));
+
+		assertEquals(3, report.rows());
+		assertEquals(2, report.rowsAffected());
+		assertEquals(List.of("a", "c"), usernames());
+	}
+
+	public void testEmptyBatchDoesNotTouchTheDatabase() {
+		BatchReport report = userDao.batchDelete(List.of());
+
+		assertEquals(0, report.rows());
+		assertEquals(0, report.rowsAffected());
+		assertEquals(0, report.chunks());
+	}
+
+	public void testFailingRowRollsBackTheChunksAlreadySent() {
+		userDao.batchInsert(users("existing"));
+
+		try {
+			// "a", "b" go out in the first chunk, the duplicate fails the third
+			userDao.batchInsert(users("a", "b", "c", "existing", "e"));
+			fail("expected the duplicate username to fail the batch");
+		} catch (DataAccessException expected) {
+		}
+
+		assertEquals(List.of("existing"), usernames());
+	}
+
+	public void testForEachUserVisitsEveryRowInIdOrder() {
+		userDao.batchInsert(users("a", "b", "c", "d", "e"));
+
+		List<User> seen = new ArrayList<>();
+		long count = userDao.forEachUser(seen::add);
+
+		assertEquals(5, count);
+		assertEquals(List.of("a", "b", "c", "d", "e"), seen.stream().map(User::getUsername).toList());
+		assertEquals("c@example.com", seen.get(2).getEmail());
+		assertEquals("secret-c", seen.get(2).getPassword());
+		assertTrue(seen.get(0).getId() < seen.get(4).getId());
+	}
+
+	public void testStreamUsersMapsEveryRow() {
+		userDao.batchInsert(users("a", "b", "c"));
+
+		try (Stream<User> stream = userDao.streamUsers()) {
+			assertEquals("a,b,c", stream.map(User::getUsername).collect(Collectors.joining(",")));
+		}
+	}
+
+	private static List<User> users(String... usernames) {
+		List<User> users = new ArrayList<>();
+		for (String username : usernames) {
+			User user = new User();
+			user.setUsername(username);
+			user.setEmail(username + "@example.com");
+			user.setPassword("secret-" + username);
+			users.add(user);
+		}
+		return users;
+	}
+
+	private List<String> usernames() {
+		return jdbcTemplate.queryForList("SELECT username FROM users ORDER BY id", String.class);
+	}
+
+	private String email(String username) {
+		return jdbcTemplate.queryForObject("SELECT email FROM users WHERE username = ?", String.class, username);
+	}
+}
@@ -0,0 +1,103 @@
+package com.deepak.mappers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import com.deepak.entities.User;
+
+// Maps "SELECT * FROM users" from an in-memory H2 table with:
+//  - byLabel: the previous UserRowMapper, which looked every column up by name on every row
+//  - indexed: UserRowMapper, a new one per query, indexes resolved on the first row
+//  - beanProperty: Spring's reflective BeanPropertyRowMapper
+// Query execution is the same for all three, so the differences are the mapping cost.
+// Run on its own with:
+//   mvn test-compile exec:exec -Djmh.args="RowMapperBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMapperBenchmark {
+
+	private static final String SELECT_ALL = "SELECT * FROM users";
+
+	@Param({ "1000" })
+	private int rows;
+
+	private SingleConnectionDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+	private RowMapper<User> byLabel;
+	private RowMapper<User> beanProperty;
+
+	@Setup
+	public void setUp() {
+		dataSource = new SingleConnectionDataSource("jdbc:h2:mem:mappers;DB_CLOSE_DELAY=-1", "sa", "", true);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("DROP TABLE IF EXISTS users");
+		jdbcTemplate.execute("CREATE TABLE users (id INT AUTO_INCREMENT PRIMARY KEY, username VARCHAR(100), "
+				+ "email VARCHAR(100), password VARCHAR(100))");
+		List<Object[]> batch = new ArrayList<>();
+		for (int i = 0; i < rows; i++) {
+			batch.add(new Object[] { "user" + i, "user" + i + "@example.com", "pass" + i });
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO users (username, email, password) VALUES (?, ?, ?)", batch);
+
+		byLabel = new LabelUserRowMapper();
+		beanProperty = new BeanPropertyRowMapper<>(User.class);
+	}
+
+	@TearDown
+	public void tearDown() {
+		dataSource.destroy();
+	}
+
+	@Benchmark
+	public List<User> byLabel() {
+		return jdbcTemplate.query(SELECT_ALL, byLabel);
+	}
+
+	@Benchmark
+	public List<User> indexed() {
+		return jdbcTemplate.query(SELECT_ALL, new UserRowMapper());
+	}
+
+	@Benchmark
+	public List<User> beanProperty() {
+		return jdbcTemplate.query(SELECT_ALL, beanProperty);
+	}
+
+	// UserRowMapper as it was before it moved to IndexedRowMapper
+	static class LabelUserRowMapper implements RowMapper<User> {
+
+		@Override
+		public User mapRow(ResultSet rs, int rowNum) throws SQLException {
+			User user = new User();
+			user.setId(rs.getInt("id"));
+			user.setUsername(rs.getString("username"));
+			user.setEmail(rs.getString("email"));
+			user.setPassword(rs.getString("password"));
+			return user;
+		}
+	}
+}
@@ -20,6 +20,8 @@ public class SecurityConfig {
         http
                 .authorizeHttpRequests((requests) -> requests
                         .requestMatchers("/").permitAll() // Allow access to the home page
+                        .requestMatchers("/actuator/health").permitAll() // Liveness checks need no login
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // Metrics and the Prometheus scrape need an admin
                         .anyRequest().authenticated()      // Any other request requires authentication
                 )
                 .formLogin(Customizer.withDefaults()) // Enable form-based login with default settings
@@ -1,36 +1,105 @@
 package com.deepak.exceptionhandling.controller;
 
+import com.deepak.exceptionhandling.dto.SignupStatus;
 import com.deepak.exceptionhandling.dto.UserRequest;
+import com.deepak.exceptionhandling.dto.UserSummary;
 import com.deepak.exceptionhandling.entity.User;
-import com.deepak.exceptionhandling.exceptions.UserNotFoundException;
+import com.deepak.exceptionhandling.service.SignupPipeline;
 import com.deepak.exceptionhandling.service.UserService;
-import jakarta.validation.Valid;
+import com.deepak.exceptionhandling.validation.UserRequestValidator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tools.jackson.databind.ObjectMapper;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/users")
 public class UserController {
 
+    private static final Map<String, String> USER_NOT_FOUND = Map.of("user", "user not found with given id");
+
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRequestValidator userRequestValidator;
+
+    @Autowired
+    private SignupPipeline signupPipeline;
+
+    // How long a client may reuse a 404 for an unknown user id before asking again
+    @Value("${users.not-found-max-age:5s}")
+    private Duration notFoundMaxAge;
+
     @PostMapping("/signup")
-    public ResponseEntity<User> signup(@RequestBody @Valid UserRequest userRequest) throws Exception {
+    public ResponseEntity<User> signup(@RequestBody UserRequest userRequest) throws Exception {
+        // Validated by UserRequestValidator instead of @Valid to keep rejections cheap (same constraints, no binding result)
+        userRequestValidator.validate(userRequest);
         return new ResponseEntity<>(userService.saveUser(userRequest), HttpStatus.CREATED);
     }
 
+    // Queued signup for bursts: validated now, de-duplicated and stored in batches later.
+    // Answers 202 with a Location to poll; 503 when the queue is full.
+    @PostMapping("/signup/async")
+    public ResponseEntity<SignupStatus> signupAsync(@RequestBody UserRequest userRequest) {
+        userRequestValidator.validate(userRequest);
+        String ticket = signupPipeline.submit(userRequest);
+        URI statusUrl = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/users/signup/status/{ticket}").buildAndExpand(ticket).toUri();
+        return ResponseEntity.accepted().location(statusUrl).body(SignupStatus.queued(ticket));
+    }
+
+    @GetMapping("/signup/status/{ticket}")
+    public ResponseEntity<SignupStatus> signupStatus(@PathVariable String ticket) {
+        return ResponseEntity.of(signupPipeline.status(ticket));
+    }
+
+    // Paged list view: /users/fetchAll?page=0&size=50 returns only userId, username and email
     @GetMapping("/fetchAll")
-    public ResponseEntity<List<User>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public ResponseEntity<PagedModel<UserSummary>> getAllUsers(@PageableDefault(size = 50, sort = "userId") Pageable pageable) {
+        return ResponseEntity.ok(new PagedModel<>(userService.getAllUsers(pageable)));
+    }
+
+    // Full dump as NDJSON, one user per line, written while the rows are read
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        StreamingResponseBody body = out -> userService.forEachUser(user -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(user));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<User> getUser(@PathVariable Long userId) throws UserNotFoundException {
-        return ResponseEntity.ok(userService.getUserById(userId));
+    public ResponseEntity<?> getUser(@PathVariable Long userId) {
+        return userService.getUserById(userId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        // Short and private: repeated misses are answered by the client's cache, a user created
+                        // meanwhile is visible after at most max-age, and shared caches don't hold the 404
+                        .cacheControl(CacheControl.maxAge(notFoundMaxAge).cachePrivate())
+                        .body(USER_NOT_FOUND));
     }
 }
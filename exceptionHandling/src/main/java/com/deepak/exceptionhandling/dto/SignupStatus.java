@@ -0,0 +1,25 @@
+package com.deepak.exceptionhandling.dto;
+
+// State of an asynchronous signup, served from /users/signup/status/{ticket}
+public record SignupStatus(String ticket, State state, Long userId, String message) {
+
+    public enum State {
+        QUEUED, CREATED, DUPLICATE, FAILED
+    }
+
+    public static SignupStatus queued(String ticket) {
+        return new SignupStatus(ticket, State.QUEUED, null, null);
+    }
+
+    public static SignupStatus created(String ticket, long userId) {
+        return new SignupStatus(ticket, State.CREATED, userId, null);
+    }
+
+    public static SignupStatus duplicate(String ticket, String message) {
+        return new SignupStatus(ticket, State.DUPLICATE, null, message);
+    }
+
+    public static SignupStatus failed(String ticket, String message) {
+        return new SignupStatus(ticket, State.FAILED, null, message);
+    }
+}
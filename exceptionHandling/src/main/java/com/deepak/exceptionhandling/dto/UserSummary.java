@@ -0,0 +1,11 @@
+package com.deepak.exceptionhandling.dto;
+
+// Interface projection for list views: Spring Data selects only these three columns.
+public interface UserSummary {
+
+    long getUserId();
+
+    String getUsername();
+
+    String getEmail();
+}
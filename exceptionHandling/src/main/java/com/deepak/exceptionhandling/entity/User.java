@@ -3,13 +3,16 @@ package com.deepak.exceptionhandling.entity;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name="Users")
+@Table(name="Users", indexes = {
+        @Index(name = "uk_users_email", columnList = "email", unique = true),
+        @Index(name = "uk_users_mobile", columnList = "mobile", unique = true)})
 @Data
 @AllArgsConstructor(staticName = "build")
 @NoArgsConstructor
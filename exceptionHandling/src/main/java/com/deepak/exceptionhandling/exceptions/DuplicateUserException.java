@@ -0,0 +1,7 @@
+package com.deepak.exceptionhandling.exceptions;
+
+public class DuplicateUserException extends RuntimeException {
+    public DuplicateUserException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -1,5 +1,7 @@
 package com.deepak.exceptionhandling.exceptions;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -8,11 +10,16 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Index names declared on the User entity
+    private static final String EMAIL_CONSTRAINT = "UK_USERS_EMAIL";
+    private static final String MOBILE_CONSTRAINT = "UK_USERS_MOBILE";
+
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public Map<String,String> handleInvalidArgument(MethodArgumentNotValidException exp){
@@ -23,11 +30,48 @@ public class GlobalExceptionHandler {
         return errorMap;
     }
 
-    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    @ExceptionHandler(UserNotFoundException.class)
-    public Map<String,String> handleUserNotFoundException(UserNotFoundException exp){
-        Map<String,String> errorMap=new HashMap<>();
-        errorMap.put("user",exp.getMessage());
-        return errorMap;
+    // Fast path for /users/signup: the validator already built the error map
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidUserRequestException.class)
+    public Map<String,String> handleInvalidUserRequest(InvalidUserRequestException exp){
+        return exp.getErrors();
+    }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(SignupQueueFullException.class)
+    public Map<String,String> handleSignupQueueFull(SignupQueueFullException exp){
+        return Map.of("signup", exp.getMessage());
+    }
+
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(DuplicateUserException.class)
+    public Map<String,String> handleDuplicateUser(DuplicateUserException exp){
+        return Map.of("user", exp.getMessage());
+    }
+
+    // Two concurrent signups with the same email/mobile: the unique index rejects the second one.
+    // Only those two constraints mean "already registered"; any other violation is rethrown and ends up a 500.
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public Map<String,String> handleConstraintViolation(DataIntegrityViolationException exp){
+        String constraint = constraintName(exp);
+        if (constraint.contains(EMAIL_CONSTRAINT)) {
+            return Map.of("user", "email already registered");
+        }
+        if (constraint.contains(MOBILE_CONSTRAINT)) {
+            return Map.of("user", "mobile already registered");
+        }
+        throw exp;
+    }
+
+    // Hibernate extracts the constraint name where the dialect supports it; otherwise it is in the driver message
+    private static String constraintName(DataIntegrityViolationException exp) {
+        for (Throwable cause = exp; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toUpperCase(Locale.ROOT);
+            }
+        }
+        String message = exp.getMostSpecificCause().getMessage();
+        return message == null ? "" : message.toUpperCase(Locale.ROOT);
     }
 }
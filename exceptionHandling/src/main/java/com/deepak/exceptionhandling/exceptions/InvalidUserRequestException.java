@@ -0,0 +1,19 @@
+package com.deepak.exceptionhandling.exceptions;
+
+import java.util.Map;
+
+// Thrown for rejected signups. It carries a ready-made field -> message map and no stack trace:
+// rejections are routine (bot traffic) and the trace would never be looked at.
+public class InvalidUserRequestException extends RuntimeException {
+
+    private final Map<String, String> errors;
+
+    public InvalidUserRequestException(Map<String, String> errors) {
+        super("invalid user request", null, false, false);
+        this.errors = errors;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,7 @@
+package com.deepak.exceptionhandling.exceptions;
+
+public class SignupQueueFullException extends RuntimeException {
+    public SignupQueueFullException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -1,7 +0,0 @@
-package com.deepak.exceptionhandling.exceptions;
-
-public class UserNotFoundException extends RuntimeException {
-    public UserNotFoundException(String message) {
-        super(message);
-    }
-}
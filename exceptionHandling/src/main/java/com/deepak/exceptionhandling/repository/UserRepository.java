@@ -1,7 +1,53 @@
 package com.deepak.exceptionhandling.repository;
 
+import com.deepak.exceptionhandling.dto.UserSummary;
 import com.deepak.exceptionhandling.entity.User;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    // "select userId, username, email ... limit/offset" instead of whole entities
+    Page<UserSummary> findAllBy(Pageable pageable);
+
+    // Cursor for full exports; consume inside a transaction and close it
+    @Query("select u from User u order by u.userId")
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<User> streamAllByOrderByUserIdAsc();
+
+    // Batch duplicate checks for the async signup pipeline
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    @Query("select u.mobile from User u where u.mobile in :mobiles")
+    List<String> findExistingMobiles(Collection<String> mobiles);
+
+    boolean existsByEmail(String email);
+
+    boolean existsByMobile(String mobile);
+
+    // Seed UserContactFilter at startup
+    @Query("select u.email from User u where u.email is not null")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllEmails();
+
+    @Query("select u.mobile from User u where u.mobile is not null")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllMobiles();
+
+    // Seeds UserIdFilter at startup
+    @Query("select u.userId from User u")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<Long> streamAllUserIds();
 }
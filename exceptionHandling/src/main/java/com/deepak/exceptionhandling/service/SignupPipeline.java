@@ -0,0 +1,244 @@
+package com.deepak.exceptionhandling.service;
+
+import com.deepak.exceptionhandling.dto.SignupStatus;
+import com.deepak.exceptionhandling.dto.UserRequest;
+import com.deepak.exceptionhandling.entity.User;
+import com.deepak.exceptionhandling.exceptions.SignupQueueFullException;
+import com.deepak.exceptionhandling.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Asynchronous signup ingestion for campaign bursts.
+// POST /users/signup/async validates the request, drops it into a bounded queue and returns 202 with a ticket.
+// A single worker drains the queue in batches, removes duplicates (by email and by mobile, both within the
+// batch and, where UserContactFilter can't rule it out, against the table) and inserts the rest with one
+// saveAll, which Hibernate sends as JDBC batches. If a batch fails, its signups are retried one at a time so
+// only the offending ones end up FAILED. Statuses are published after the transaction commits.
+// The worker runs between the context's start and stop: on stop it finishes its current batch (it is never
+// interrupted mid-statement), then whatever is still queued is stored before the datasource goes away.
+// submit() checks 'running' and enqueues under the read lock and stop() flips it under the write lock, so
+// every ticket that was accepted is in the queue before the final drain and none is left QUEUED.
+@Component
+public class SignupPipeline implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(SignupPipeline.class);
+
+    // How often an idle worker re-checks whether it should stop
+    private static final long POLL_INTERVAL_MS = 200;
+
+    private record Ticket(String id, UserRequest request) {
+    }
+
+    private final UserRepository userRepository;
+    private final UserIdFilter userIdFilter;
+    private final UserContactFilter userContactFilter;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Ticket> queue;
+    private final int batchSize;
+    private final int maxStatuses;
+    private final long shutdownTimeoutMillis;
+
+    private final Map<String, SignupStatus> statuses = new ConcurrentHashMap<>();
+    private final Queue<String> statusOrder = new ConcurrentLinkedQueue<>();
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+    private ExecutorService worker;
+    private volatile boolean running;
+
+    SignupPipeline(UserRepository userRepository, UserIdFilter userIdFilter, UserContactFilter userContactFilter,
+                   PlatformTransactionManager transactionManager,
+                   @Value("${users.signup.queue-capacity:10000}") int queueCapacity,
+                   @Value("${users.signup.batch-size:200}") int batchSize,
+                   @Value("${users.signup.max-statuses:100000}") int maxStatuses,
+                   @Value("${users.signup.shutdown-timeout-ms:30000}") long shutdownTimeoutMillis) {
+        this.userRepository = userRepository;
+        this.userIdFilter = userIdFilter;
+        this.userContactFilter = userContactFilter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxStatuses = maxStatuses;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+
+    // Returns the ticket id, or throws when the queue is full (or the pipeline is stopping) so the client can back off
+    public String submit(UserRequest request) {
+        UserService.normalize(request);
+        Ticket ticket = new Ticket(UUID.randomUUID().toString(), request);
+        acceptLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new SignupQueueFullException("signup pipeline is not accepting signups, retry later");
+            }
+            putStatus(SignupStatus.queued(ticket.id()));
+            if (!queue.offer(ticket)) {
+                statuses.remove(ticket.id());
+                throw new SignupQueueFullException("signup queue is full, retry later");
+            }
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+        return ticket.id();
+    }
+
+    public Optional<SignupStatus> status(String ticket) {
+        return Optional.ofNullable(statuses.get(ticket));
+    }
+
+    @Override
+    public void start() {
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "signup-pipeline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        worker.execute(this::run);
+    }
+
+    @Override
+    public void stop() {
+        // Waits for submits that already passed the running check, so their tickets are queued for the drain below
+        acceptLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("Signup worker did not finish its batch within {} ms", shutdownTimeoutMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Whatever is still queued is persisted before the datasource goes away
+        List<Ticket> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (int from = 0; from < rest.size(); from += batchSize) {
+            store(rest.subList(from, Math.min(rest.size(), from + batchSize)));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        List<Ticket> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Ticket first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                store(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    // One transaction for the batch; if that fails, one per signup so a single bad row can't fail the others
+    private void store(List<Ticket> batch) {
+        try {
+            process(batch);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                log.error("Signup {} failed", batch.get(0).id(), e);
+                putStatus(SignupStatus.failed(batch.get(0).id(), "signup could not be stored"));
+                return;
+            }
+            log.warn("Signup batch of {} failed, retrying its signups one by one", batch.size(), e);
+            for (Ticket ticket : batch) {
+                store(List.of(ticket));
+            }
+        }
+    }
+
+    private void process(List<Ticket> batch) {
+        Set<String> emails = new HashSet<>();
+        Set<String> mobiles = new HashSet<>();
+        for (Ticket ticket : batch) {
+            // Values the contact filter has never seen are certainly new and need no database check
+            if (userContactFilter.emailMightExist(ticket.request().getEmail())) {
+                emails.add(ticket.request().getEmail());
+            }
+            if (userContactFilter.mobileMightExist(ticket.request().getMobile())) {
+                mobiles.add(ticket.request().getMobile());
+            }
+        }
+
+        List<SignupStatus> outcome = transactionTemplate.execute(status -> {
+            // One query per column for the whole batch instead of one probe per signup
+            Set<String> takenEmails = new HashSet<>(emails.isEmpty() ? List.of() : userRepository.findExistingEmails(emails));
+            Set<String> takenMobiles = new HashSet<>(mobiles.isEmpty() ? List.of() : userRepository.findExistingMobiles(mobiles));
+
+            List<SignupStatus> results = new ArrayList<>(batch.size());
+            List<Ticket> accepted = new ArrayList<>(batch.size());
+            List<User> users = new ArrayList<>(batch.size());
+            for (Ticket ticket : batch) {
+                UserRequest request = ticket.request();
+                if (request.getEmail() != null && takenEmails.contains(request.getEmail())) {
+                    results.add(SignupStatus.duplicate(ticket.id(), "email already registered"));
+                } else if (request.getMobile() != null && takenMobiles.contains(request.getMobile())) {
+                    results.add(SignupStatus.duplicate(ticket.id(), "mobile already registered"));
+                } else {
+                    // later signups in the same batch with this email/mobile are duplicates of this one
+                    addIfPresent(takenEmails, request.getEmail());
+                    addIfPresent(takenMobiles, request.getMobile());
+                    accepted.add(ticket);
+                    users.add(UserService.toUser(request));
+                }
+            }
+
+            List<User> saved = userRepository.saveAll(users);
+            userRepository.flush();
+            for (int i = 0; i < saved.size(); i++) {
+                // Filled before the commit: a rollback only leaves harmless false positives behind,
+                // whereas filling them afterwards would briefly hide committed users
+                userIdFilter.add(saved.get(i).getUserId());
+                userContactFilter.add(saved.get(i).getEmail(), saved.get(i).getMobile());
+                results.add(SignupStatus.created(accepted.get(i).id(), saved.get(i).getUserId()));
+            }
+            return results;
+        });
+        // Only reported once committed, so CREATED always means the user can be read back
+        outcome.forEach(this::putStatus);
+    }
+
+    private static void addIfPresent(Set<String> values, String value) {
+        if (value != null) {
+            values.add(value);
+        }
+    }
+
+    // Keeps at most maxStatuses tickets around; the oldest are forgotten first
+    private void putStatus(SignupStatus status) {
+        if (statuses.put(status.ticket(), status) == null) {
+            statusOrder.add(status.ticket());
+            while (statuses.size() > maxStatuses) {
+                String oldest = statusOrder.poll();
+                if (oldest == null) {
+                    break;
+                }
+                statuses.remove(oldest);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.deepak.exceptionhandling.service;
+
+import com.deepak.exceptionhandling.repository.UserRepository;
+import com.deepak.exceptionhandling.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+// Bloom filters of registered emails and mobiles. A value the filter has never seen can't be a duplicate,
+// so signup only probes the database (existsByEmail/existsByMobile) on the rare "might exist" answer.
+// The unique indexes on Users remain the source of truth for races between two signups.
+// Emails are kept in lower case (see UserService.normalize), so callers pass normalized values.
+@Component
+public class UserContactFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BloomFilter emails;
+    private final BloomFilter mobiles;
+
+    UserContactFilter(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                      @Value("${users.contact-filter.expected-insertions:1000000}") long expectedInsertions,
+                      @Value("${users.contact-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.emails = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        this.mobiles = new BloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+
+    @PostConstruct
+    void load() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> all = userRepository.streamAllEmails()) {
+                all.forEach(email -> emails.put(email.toLowerCase(Locale.ROOT)));
+            }
+            try (Stream<String> all = userRepository.streamAllMobiles()) {
+                all.forEach(mobiles::put);
+            }
+        });
+    }
+
+    public void add(String email, String mobile) {
+        if (email != null) {
+            emails.put(email);
+        }
+        if (mobile != null) {
+            mobiles.put(mobile);
+        }
+    }
+
+    public boolean emailMightExist(String email) {
+        return email != null && emails.mightContain(email);
+    }
+
+    public boolean mobileMightExist(String mobile) {
+        return mobile != null && mobiles.mightContain(mobile);
+    }
+}
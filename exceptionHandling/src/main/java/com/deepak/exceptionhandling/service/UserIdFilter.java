@@ -0,0 +1,51 @@
+package com.deepak.exceptionhandling.service;
+
+import com.deepak.exceptionhandling.repository.UserRepository;
+import com.deepak.exceptionhandling.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+// Negative-lookup index of existing user ids. An id the filter has never seen is definitely not in the
+// database, so GET /users/{userId} can answer 404 without a query; enumeration scans over random ids
+// then cost a few memory reads each. Loaded once at startup and filled by UserService.saveUser and
+// SignupPipeline before their transactions commit, so a user this instance created is never missed.
+// Rows written by anything else (another instance, a manual insert) are only seen after a restart, which is
+// why those 404s are sent with Cache-Control: no-store.
+@Component
+public class UserIdFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BloomFilter filter;
+
+    UserIdFilter(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                 @Value("${users.id-filter.expected-insertions:1000000}") long expectedInsertions,
+                 @Value("${users.id-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+
+    @PostConstruct
+    void load() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Long> ids = userRepository.streamAllUserIds()) {
+                ids.forEach(filter::put);
+            }
+        });
+    }
+
+    public void add(long userId) {
+        filter.put(userId);
+    }
+
+    public boolean mightExist(long userId) {
+        return filter.mightContain(userId);
+    }
+}
@@ -1,14 +1,22 @@
 package com.deepak.exceptionhandling.service;
 
 import com.deepak.exceptionhandling.dto.UserRequest;
+import com.deepak.exceptionhandling.dto.UserSummary;
 import com.deepak.exceptionhandling.entity.User;
-import com.deepak.exceptionhandling.exceptions.UserNotFoundException;
+import com.deepak.exceptionhandling.exceptions.DuplicateUserException;
 import com.deepak.exceptionhandling.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.file.attribute.UserPrincipalNotFoundException;
-import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static org.springframework.data.jpa.domain.AbstractPersistable_.id;
 
@@ -18,21 +26,68 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserIdFilter userIdFilter;
+
+    @Autowired
+    private UserContactFilter userContactFilter;
+
+    // The filters are filled inside the transaction: a rollback only leaves a harmless false positive, while
+    // filling them after the commit would briefly report a committed user as not found
+    @Transactional
     public User saveUser(UserRequest userRequest) {
-        User user = User.build(0,userRequest.getUsername(),userRequest.getEmail(),userRequest.getMobile(),userRequest.getGender(),userRequest.getAge(),
+        normalize(userRequest);
+        // The database is only asked when the Bloom filter says the value might already be registered
+        if (userContactFilter.emailMightExist(userRequest.getEmail()) && userRepository.existsByEmail(userRequest.getEmail())) {
+            throw new DuplicateUserException("email already registered");
+        }
+        if (userContactFilter.mobileMightExist(userRequest.getMobile()) && userRepository.existsByMobile(userRequest.getMobile())) {
+            throw new DuplicateUserException("mobile already registered");
+        }
+        User user = toUser(userRequest);
+
+        User saved = userRepository.saveAndFlush(user); // a unique-index clash surfaces here, not at commit
+        userIdFilter.add(saved.getUserId());
+        userContactFilter.add(saved.getEmail(), saved.getMobile());
+        return saved;
+    }
+
+    // Emails are compared case-insensitively: stored, checked against the unique index and looked up in the
+    // contact filter in lower case only
+    static void normalize(UserRequest userRequest) {
+        if (userRequest.getEmail() != null) {
+            userRequest.setEmail(userRequest.getEmail().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    static User toUser(UserRequest userRequest) {
+        return User.build(0,userRequest.getUsername(),userRequest.getEmail(),userRequest.getMobile(),userRequest.getGender(),userRequest.getAge(),
                 userRequest.getNationality());
+    }
 
-        return userRepository.save(user);
+    public Page<UserSummary> getAllUsers(Pageable pageable) {
+        return userRepository.findAllBy(pageable);
     }
 
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    // Streams every user to the consumer, detaching each one afterwards so the heap stays flat
+    @Transactional(readOnly = true)
+    public void forEachUser(Consumer<User> consumer) {
+        try (Stream<User> users = userRepository.streamAllByOrderByUserIdAsc()) {
+            users.forEach(user -> {
+                consumer.accept(user);
+                entityManager.detach(user);
+            });
+        }
     }
 
-    public User getUserById(long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    return new UserNotFoundException("user not found with given id");
-                });
+    // Empty for unknown ids; ids the filter has never seen don't reach the database at all
+    public Optional<User> getUserById(long userId) {
+        if (!userIdFilter.mightExist(userId)) {
+            return Optional.empty();
+        }
+        return userRepository.findById(userId);
     }
 }
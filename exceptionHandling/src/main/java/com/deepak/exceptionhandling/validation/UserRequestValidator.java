@@ -0,0 +1,38 @@
+package com.deepak.exceptionhandling.validation;
+
+import com.deepak.exceptionhandling.dto.UserRequest;
+import com.deepak.exceptionhandling.exceptions.InvalidUserRequestException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+// Cheap rejection path for signups. The rules stay the constraints declared on UserRequest, checked by the
+// application's shared Validator (its constraint metadata is resolved once and cached), so there is a single
+// definition of what a valid email or mobile is. What is skipped is the @Valid machinery around it:
+// no BindingResult, no MethodArgumentNotValidException with a stack trace, just a field -> message map.
+@Component
+public class UserRequestValidator {
+
+    private final Validator validator;
+
+    public UserRequestValidator(Validator validator) {
+        this.validator = validator;
+    }
+
+    // Returns normally for a valid request, otherwise throws a stackless InvalidUserRequestException
+    public void validate(UserRequest request) {
+        Set<ConstraintViolation<UserRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return;
+        }
+        Map<String, String> errors = new LinkedHashMap<>(8);
+        for (ConstraintViolation<UserRequest> violation : violations) {
+            errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        throw new InvalidUserRequestException(errors);
+    }
+}
@@ -0,0 +1,28 @@
+package com.deepak.exceptionhandling.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "users.not-found-max-age=5s")
+@AutoConfigureMockMvc
+class UserControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void unknownUserIsABrieflyCacheable404() throws Exception {
+        mockMvc.perform(get("/users/{userId}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string("Cache-Control", "max-age=5, private"))
+                .andExpect(jsonPath("$.user").value("user not found with given id"));
+    }
+}
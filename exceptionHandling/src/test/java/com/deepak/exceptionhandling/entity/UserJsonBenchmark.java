@@ -0,0 +1,46 @@
+package com.deepak.exceptionhandling.entity;
+
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+// Request/response body (de)serialization of User through a reader/writer bound once up front,
+// the way Spring's message converters cache them. Run on its own with:
+//   ./mvnw test-compile exec:exec -Djmh.args="UserJsonBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserJsonBenchmark {
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private User user;
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = JsonMapper.builder().build();
+        writer = mapper.writerFor(User.class);
+        reader = mapper.readerFor(User.class);
+
+        user = User.build(42L, "ramesh", "ramesh@example.com", "9876543210", "male", 29, "Indian");
+        json = writer.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] write() {
+        return writer.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public User read() {
+        return reader.readValue(json);
+    }
+}
@@ -0,0 +1,57 @@
+package com.deepak.exceptionhandling.repository;
+
+import com.deepak.exceptionhandling.ExceptionHandlingApplication;
+import com.deepak.exceptionhandling.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+// findById/save round-trips through UserRepository against the default in-memory H2 database,
+// i.e. the JPA + JDBC cost underneath GET /users/{id} and POST /users/signup. The application context
+// is booted without a web server. Run on its own with:
+//   ./mvnw test-compile exec:exec -Djmh.args="UserRepositoryBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserRepositoryBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private UserRepository users;
+    private long existingId;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        SpringApplication app = new SpringApplication(ExceptionHandlingApplication.class);
+        app.setWebApplicationType(WebApplicationType.NONE);
+        context = app.run("--spring.jmx.enabled=false", "--logging.level.root=WARN");
+        users = context.getBean(UserRepository.class);
+        existingId = users.save(newUser(0)).getUserId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public User findById() {
+        return users.findById(existingId).orElseThrow();
+    }
+
+    @Benchmark
+    public User save() {
+        // email and mobile carry unique indexes, so every saved row needs its own
+        return users.save(newUser(++sequence));
+    }
+
+    private static User newUser(long n) {
+        return User.build(0, "user" + n, "user" + n + "@example.com", String.format("9%09d", n), "female", 30, "Indian");
+    }
+}
@@ -0,0 +1,73 @@
+package com.deepak.exceptionhandling.service;
+
+import com.deepak.exceptionhandling.dto.SignupStatus;
+import com.deepak.exceptionhandling.dto.UserRequest;
+import com.deepak.exceptionhandling.exceptions.SignupQueueFullException;
+import com.deepak.exceptionhandling.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SignupPipelineTest {
+
+    private static final int SUBMITTERS = 4;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserIdFilter userIdFilter;
+
+    @Autowired
+    private UserContactFilter userContactFilter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void noTicketAcceptedDuringStopIsLeftQueued() throws Exception {
+        SignupPipeline pipeline = new SignupPipeline(userRepository, userIdFilter, userContactFilter,
+                transactionManager, 100_000, 200, 100_000, 30_000);
+        pipeline.start();
+
+        AtomicLong next = new AtomicLong(ThreadLocalRandom.current().nextLong(1_000_000_000L, 8_000_000_000L));
+        Queue<String> accepted = new ConcurrentLinkedQueue<>();
+        CountDownLatch submitting = new CountDownLatch(SUBMITTERS);
+        ExecutorService submitters = Executors.newFixedThreadPool(SUBMITTERS);
+        for (int i = 0; i < SUBMITTERS; i++) {
+            submitters.execute(() -> {
+                submitting.countDown();
+                while (true) {
+                    long n = next.incrementAndGet();
+                    try {
+                        accepted.add(pipeline.submit(UserRequest.build("user" + n, "user" + n + "@example.com",
+                                String.valueOf(n), "F", 30, "Indian")));
+                    } catch (SignupQueueFullException e) {
+                        return; // stop() has begun
+                    }
+                }
+            });
+        }
+        submitting.await();
+        Thread.sleep(50);
+        pipeline.stop();
+        submitters.shutdown();
+        assertTrue(submitters.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertFalse(accepted.isEmpty());
+        List<String> queued = accepted.stream()
+                .filter(ticket -> pipeline.status(ticket).map(SignupStatus::state).orElseThrow() == SignupStatus.State.QUEUED)
+                .toList();
+        assertEquals(List.of(), queued);
+        assertThrows(SignupQueueFullException.class, () -> pipeline.submit(new UserRequest()));
+    }
+}
@@ -0,0 +1,83 @@
+package com.deepak.exceptionhandling.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    @Test
+    void neverMissesAnInsertedId() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+        for (long id = 1; id <= INSERTIONS; id++) {
+            filter.put(id);
+        }
+        for (long id = 1; id <= INSERTIONS; id++) {
+            assertTrue(filter.mightContain(id), "false negative for id " + id);
+        }
+    }
+
+    @Test
+    void neverMissesAnInsertedString() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"), "false negative for user" + i);
+        }
+    }
+
+    @Test
+    void concurrentPutsLoseNoBits() throws Exception {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(pool.submit(() -> {
+                    for (long id = thread; id < INSERTIONS; id += threads) {
+                        filter.put(id);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        for (long id = 0; id < INSERTIONS; id++) {
+            assertTrue(filter.mightContain(id), "false negative for id " + id);
+        }
+    }
+
+    // Sized for INSERTIONS at 1%: absent keys should come back "might contain" about 1% of the time
+    @Test
+    void falsePositiveRateStaysNearTheConfiguredProbability() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+        for (long id = 1; id <= INSERTIONS; id++) {
+            filter.put(id);
+        }
+        int falsePositives = 0;
+        int probes = 200_000;
+        for (long id = INSERTIONS + 1; id <= INSERTIONS + probes; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+        double rate = (double) falsePositives / probes;
+        assertTrue(rate < FALSE_POSITIVE_PROBABILITY * 2, "false-positive rate " + rate);
+    }
+}
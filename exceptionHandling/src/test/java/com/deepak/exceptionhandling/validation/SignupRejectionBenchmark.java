@@ -0,0 +1,83 @@
+package com.deepak.exceptionhandling.validation;
+
+import com.deepak.exceptionhandling.controller.UserController;
+import com.deepak.exceptionhandling.dto.UserRequest;
+import com.deepak.exceptionhandling.exceptions.GlobalExceptionHandler;
+import com.deepak.exceptionhandling.exceptions.InvalidUserRequestException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Cost of rejecting an invalid /users/signup body, measured in rejections per second:
+//  - beanValidation: the old @Valid path (Bean Validation, MethodArgumentNotValidException with a stack trace,
+//    walk of the field errors into a fresh HashMap)
+//  - compiledValidator: UserRequestValidator (same cached Validator and constraints, no binding result) plus the
+//    stackless InvalidUserRequestException
+// Run on its own with:
+//   ./mvnw test-compile exec:exec -Djmh.args="SignupRejectionBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SignupRejectionBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator beanValidator;
+    private MethodParameter signupBody;
+    private UserRequestValidator compiledValidator;
+    private GlobalExceptionHandler handler;
+    private UserRequest invalid;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = validatorFactory.getValidator();
+        signupBody = new MethodParameter(UserController.class.getMethod("signup", UserRequest.class), 0);
+        compiledValidator = new UserRequestValidator(beanValidator);
+        handler = new GlobalExceptionHandler();
+        // Typical bot payload: bad email, bad mobile, age out of range, blank nationality
+        invalid = UserRequest.build("bot", "not-an-email", "12345", "x", 7, " ");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Map<String, String> beanValidation() throws Exception {
+        BeanPropertyBindingResult result = new BeanPropertyBindingResult(invalid, "userRequest");
+        for (ConstraintViolation<UserRequest> violation : beanValidator.validate(invalid)) {
+            result.addError(new FieldError("userRequest", violation.getPropertyPath().toString(), violation.getMessage()));
+        }
+        return handler.handleInvalidArgument(new MethodArgumentNotValidException(signupBody, result));
+    }
+
+    @Benchmark
+    public Map<String, String> compiledValidator() {
+        try {
+            compiledValidator.validate(invalid);
+            return Map.of();
+        } catch (InvalidUserRequestException e) {
+            return handler.handleInvalidUserRequest(e);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SignupRejectionBenchmark.class.getSimpleName()).build()).run();
+    }
+}
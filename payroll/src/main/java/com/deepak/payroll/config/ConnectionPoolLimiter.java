@@ -0,0 +1,105 @@
+package com.deepak.payroll.config;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Only active with spring.threads.virtual.enabled=true (the "virtual" profile).
+// Virtual threads remove Tomcat's thread cap, so requests to /employees could pile up inside Hikari's
+// getConnection() and time out there. At most maximum-pool-size of them are admitted; the rest get a 503
+// after waiting acquire-timeout. Actuator, error and static requests never touch the pool and pass straight through.
+// An NDJSON export keeps its connection until the async response completes, so it keeps its permit until then too.
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class ConnectionPoolLimiter extends OncePerRequestFilter {
+
+  private static final String LIMITED_PATH = "/employees";
+
+  private final Semaphore permits;
+  private final long acquireTimeoutMillis;
+
+  ConnectionPoolLimiter(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxPoolSize,
+      @Value("${app.virtual-threads.acquire-timeout-ms:5000}") long acquireTimeoutMillis) {
+    this.permits = new Semaphore(maxPoolSize, true);
+    this.acquireTimeoutMillis = acquireTimeoutMillis;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    return !(path.equals(LIMITED_PATH) || path.startsWith(LIMITED_PATH + "/"));
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      acquired = false;
+    }
+    if (!acquired) {
+      response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Too many concurrent requests");
+      return;
+    }
+    AtomicBoolean released = new AtomicBoolean();
+    Runnable release = () -> {
+      if (released.compareAndSet(false, true)) {
+        permits.release();
+      }
+    };
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(new ReleasingListener(release));
+      } else {
+        release.run();
+      }
+    }
+  }
+
+  public int availablePermits() {
+    return permits.availablePermits();
+  }
+
+  private record ReleasingListener(Runnable release) implements AsyncListener {
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      release.run();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      release.run();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      release.run();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      // a re-started async cycle needs the listener again
+      event.getAsyncContext().addListener(this);
+    }
+  }
+}
@@ -1,7 +1,21 @@
 package com.deepak.payroll.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,63 +23,174 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.deepak.payroll.exceptions.EmployeeNotFoundException;
+import com.deepak.payroll.dto.ImportReport;
+import com.deepak.payroll.exceptions.PreconditionFailedException;
 import com.deepak.payroll.model.Employee;
 import com.deepak.payroll.repository.EmployeeRepository;
+import com.deepak.payroll.service.EmployeeImportService;
+import com.deepak.payroll.service.EmployeeService;
+import com.deepak.payroll.service.EmployeeWriteBehindQueue;
+
+import tools.jackson.databind.ObjectMapper;
 
 @RestController
+@Profile("!reactive") // replaced by the functional routes in com.deepak.payroll.reactive (-Preactive build)
 class EmployeeController {
 
   private final EmployeeRepository repository;
+  private final EmployeeService employeeService;
+  private final EmployeeImportService importService;
+  private final EmployeeModelAssembler assembler;
+  private final ObjectMapper objectMapper;
+  private final EmployeeWriteBehindQueue writeBehind; // null unless payroll.write-behind.enabled=true
 
-  EmployeeController(EmployeeRepository repository) {
+  EmployeeController(EmployeeRepository repository, EmployeeService employeeService,
+      EmployeeImportService importService, EmployeeModelAssembler assembler, ObjectMapper objectMapper,
+      ObjectProvider<EmployeeWriteBehindQueue> writeBehind) {
     this.repository = repository;
+    this.employeeService = employeeService;
+    this.importService = importService;
+    this.assembler = assembler;
+    this.objectMapper = objectMapper;
+    this.writeBehind = writeBehind.getIfAvailable();
   }
 
 
   @GetMapping("/employees") // Maps HTTP GET requests for /employees to this method.
-  List<Employee> all() {
+  List<Employee> all(WebRequest request) {
+      // The ETag is a cheap aggregate over the table; a matching If-None-Match gets a 304 with no body
+      if (request.checkNotModified(employeeService.tableVersion().etag())) {
+        return null;
+      }
       return repository.findAll(); // The repository gives you this method for free!
   }
   // end::get-aggregate-root[]
 
+  // Keyset (cursor) paging: GET /employees?limit=100&after=<last id of previous page>.
+  // Only one page is ever held in memory, and the "next" link carries the cursor for the following page.
+  @GetMapping(value = "/employees", params = "limit")
+  CollectionModel<Employee> page(@RequestParam int limit, @RequestParam(required = false) Long after) {
+
+    List<Employee> employees = employeeService.page(after, limit);
+
+    CollectionModel<Employee> model = CollectionModel.of(employees,
+            linkTo(methodOn(EmployeeController.class).page(limit, after)).withSelfRel());
+    if (!employees.isEmpty()) {
+      Long cursor = employees.get(employees.size() - 1).getId();
+      model.add(linkTo(methodOn(EmployeeController.class).page(limit, cursor)).withRel("next"));
+    }
+    return model;
+  }
+
+  // Filtered, paged search: GET /employees/search?role=AI%20Engineer&namePrefix=Bi&page=0&size=20
+  // Both filters are optional and each one hits its own index instead of transferring the whole table.
+  @GetMapping("/employees/search")
+  PagedModel<Employee> search(@RequestParam(required = false) String role,
+      @RequestParam(required = false) String namePrefix,
+      @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.ASC) Pageable pageable) {
+    return new PagedModel<>(employeeService.search(role, namePrefix, pageable));
+  }
+
+  // Streaming export: Accept: application/x-ndjson writes one employee per line straight from a database
+  // cursor, so memory stays flat no matter how many rows the table holds.
+  @GetMapping(value = "/employees", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  StreamingResponseBody stream() {
+    return out -> employeeService.forEach(employee -> {
+      try {
+        out.write(objectMapper.writeValueAsBytes(employee));
+        out.write('\n');
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
   @PostMapping("/employees")
-  Employee newEmployee(@RequestBody Employee newEmployee) {
-    return repository.save(newEmployee);
+  ResponseEntity<Employee> newEmployee(@RequestBody Employee newEmployee) {
+    if (writeBehind != null) {
+      writeBehind.create(newEmployee); // persisted by the next flush
+      return ResponseEntity.accepted().body(newEmployee);
+    }
+    return ResponseEntity.ok(employeeService.create(newEmployee));
+  }
+
+  // Bulk load: the body is either a JSON array of employees or NDJSON (one employee per line).
+  // It is read as a stream and persisted in batched chunks; the response reports throughput per chunk.
+  @PostMapping(value = "/employees/bulk",
+      consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+  ImportReport bulkImport(InputStream body) throws IOException {
+    return importService.importEmployees(body);
   }
 
   // Single item
   
   @GetMapping("/employees/{id}")
-  EntityModel<Employee> one(@PathVariable Long id) { // @PathVariable binds the {id} from the URL to the 'id' parameter.
+  ResponseEntity<EntityModel<Employee>> one(@PathVariable Long id, WebRequest request) { // @PathVariable binds the {id} from the URL to the 'id' parameter.
 
-    Employee employee = repository.findById(id) //
-        .orElseThrow(() -> new EmployeeNotFoundException(id));
+    Employee employee = employeeService.findById(id); // cached; throws EmployeeNotFoundException on a miss
 
-    return EntityModel.of(employee, // The data
-            linkTo(methodOn(EmployeeController.class).one(id)).withSelfRel(), // A link to this method itself ("self")
-            linkTo(methodOn(EmployeeController.class).all()).withRel("employees")); // A link to the 'all' method
+    // Strong ETag from the @Version column: if the client already has this version, skip the body entirely
+    String etag = etag(employee);
+    if (request.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+    return ResponseEntity.ok().eTag(etag)
+        .body(assembler.toModel(employee)); // The data plus "self" and "employees" links from precomputed templates
   }
 
   
   @PutMapping("/employees/{id}")
-  Employee replaceEmployee(@RequestBody Employee newEmployee, @PathVariable Long id) {
-    
-    return repository.findById(id)
-      .map(employee -> {
-        employee.setName(newEmployee.getName());
-        employee.setRole(newEmployee.getRole());
-        return repository.save(employee);
-      })
-      .orElseGet(() -> {
-        return repository.save(newEmployee);
-      });
+  ResponseEntity<Employee> replaceEmployee(@RequestBody Employee newEmployee, @PathVariable Long id,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+    // Conditional updates need the current version, so only unconditional PUTs are written behind
+    if (writeBehind != null && ifMatch == null) {
+      writeBehind.replace(id, newEmployee);
+      return ResponseEntity.accepted().body(newEmployee);
+    }
+    // 404 for an unknown id (employees are only created by POST); also evicts the cached entry.
+    // The ETag is only sent for If-Match PUTs: an unconditional PUT is one UPDATE and never learns the version.
+    Employee employee = employeeService.replace(id, newEmployee, expectedVersion(id, ifMatch));
+    if (employee.getVersion() == null) {
+      return ResponseEntity.ok().body(employee);
+    }
+    return ResponseEntity.ok().eTag(etag(employee)).body(employee);
   }
 
   @DeleteMapping("/employees/{id}")
-  void deleteEmployee(@PathVariable Long id) {
-    repository.deleteById(id);
+  ResponseEntity<Void> deleteEmployee(@PathVariable Long id) {
+    if (writeBehind != null) {
+      writeBehind.delete(id);
+      return ResponseEntity.accepted().build();
+    }
+    employeeService.delete(id);
+    return ResponseEntity.ok().build();
+  }
+
+  private static String etag(Employee employee) {
+    return "\"" + employee.getVersion() + "\"";
+  }
+
+  // If-Match: "<version>" pins the update to that version. "*" (or no header) accepts any current version.
+  // Weak validators never match under If-Match's strong comparison.
+  private static Long expectedVersion(Long id, String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+      return null;
+    }
+    String tag = ifMatch.trim();
+    if (tag.startsWith("W/") || tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+      throw new PreconditionFailedException(id);
+    }
+    try {
+      return Long.valueOf(tag.substring(1, tag.length() - 1));
+    } catch (NumberFormatException e) {
+      throw new PreconditionFailedException(id);
+    }
   }
 }
@@ -0,0 +1,57 @@
+package com.deepak.payroll.controller;
+
+import java.lang.reflect.Method;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.server.RepresentationModelAssembler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.deepak.payroll.model.Employee;
+
+// Turns an Employee into its EntityModel with "self" and "employees" links.
+// linkTo(methodOn(...)) builds a proxy and resolves the request mapping on every call, so the paths are
+// read once from EmployeeController's mapping annotations and each request only prepends its base URI
+// and expands {id}.
+@Component
+@Profile("!reactive")
+public class EmployeeModelAssembler implements RepresentationModelAssembler<Employee, EntityModel<Employee>> {
+
+  private final UriTemplate selfTemplate;  // /employees/{id}
+  private final String employeesPath;      // /employees
+
+  EmployeeModelAssembler() {
+    // linkTo(methodOn(...).one(null, null)) can't be used here: it hands "/employees/{id}" to URI.create,
+    // which rejects the braces
+    this.selfTemplate = UriTemplate.of(path("one", Long.class, WebRequest.class));
+    this.employeesPath = path("all", WebRequest.class);
+  }
+
+  @Override
+  public EntityModel<Employee> toModel(Employee employee) {
+    String base = ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+
+    return EntityModel.of(employee,
+        Link.of(base + selfTemplate.expand(employee.getId()), IanaLinkRelations.SELF),
+        Link.of(base + employeesPath, "employees"));
+  }
+
+  // Only the path is kept, so the templates don't depend on whichever request (if any) is active at startup.
+  private static String path(String handler, Class<?>... parameterTypes) {
+    Method method = ReflectionUtils.findMethod(EmployeeController.class, handler, parameterTypes);
+    RequestMapping mapping = method == null ? null
+        : AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+    if (mapping == null || mapping.path().length != 1) {
+      throw new IllegalStateException("EmployeeController." + handler + " has no single request mapping");
+    }
+    return mapping.path()[0];
+  }
+}
@@ -1,5 +1,7 @@
 package com.deepak.payroll.dataLoad;
 
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
@@ -18,8 +20,11 @@ class LoadDatabase {
   CommandLineRunner initDatabase(EmployeeRepository repository) {
 
     return args -> {
-      log.info("Preloading " + repository.save(new Employee("Ramesh Sharma", "Software Tester")));
-      log.info("Preloading " + repository.save(new Employee("Bikky Kumar", "AI Engineer")));
+      // saveAll lets Hibernate send the inserts as one JDBC batch
+      repository.saveAll(List.of(
+          new Employee("Ramesh Sharma", "Software Tester"),
+          new Employee("Bikky Kumar", "AI Engineer")))
+        .forEach(employee -> log.info("Preloading " + employee));
     };
   }
 }
\ No newline at end of file
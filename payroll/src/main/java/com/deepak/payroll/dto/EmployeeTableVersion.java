@@ -0,0 +1,10 @@
+package com.deepak.payroll.dto;
+
+// Aggregate fingerprint of the employee table, computed by the database without loading any rows.
+// Any insert, update (version bump) or delete changes at least one of the components.
+public record EmployeeTableVersion(Long count, Long maxId, Long idSum, Long versionSum) {
+
+  public String etag() {
+    return "\"" + count + "-" + maxId + "-" + idSum + "-" + versionSum + "\"";
+  }
+}
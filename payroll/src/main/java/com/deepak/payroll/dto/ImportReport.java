@@ -0,0 +1,22 @@
+package com.deepak.payroll.dto;
+
+import java.util.List;
+
+// Summary returned by POST /employees/bulk: overall numbers plus one entry per committed chunk.
+public record ImportReport(int rows, long elapsedMillis, double rowsPerSecond, List<ChunkReport> chunks) {
+
+  public record ChunkReport(int chunk, int rows, long elapsedMillis, double rowsPerSecond) {
+  }
+
+  static double rate(int rows, long elapsedNanos) {
+    return elapsedNanos == 0 ? rows : rows * 1_000_000_000d / elapsedNanos;
+  }
+
+  public static ChunkReport chunk(int chunk, int rows, long elapsedNanos) {
+    return new ChunkReport(chunk, rows, elapsedNanos / 1_000_000, rate(rows, elapsedNanos));
+  }
+
+  public static ImportReport of(int rows, long elapsedNanos, List<ChunkReport> chunks) {
+    return new ImportReport(rows, elapsedNanos / 1_000_000, rate(rows, elapsedNanos), chunks);
+  }
+}
@@ -0,0 +1,25 @@
+package com.deepak.payroll.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class PreconditionFailedAdvice {
+
+  // If-Match didn't match the current version
+  @ExceptionHandler(PreconditionFailedException.class)
+  @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+  public String preconditionFailedHandler(PreconditionFailedException ex) {
+    return ex.getMessage();
+  }
+
+  // Another request updated the row between our read and our write
+  @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+  @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+  public String optimisticLockHandler(ObjectOptimisticLockingFailureException ex) {
+    return "Employee " + ex.getIdentifier() + " was modified concurrently; fetch it again and retry";
+  }
+}
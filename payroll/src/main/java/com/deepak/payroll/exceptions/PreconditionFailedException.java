@@ -0,0 +1,10 @@
+package com.deepak.payroll.exceptions;
+
+public class PreconditionFailedException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public PreconditionFailedException(Long id) {
+		super("Employee " + id + " has been modified; fetch it again and retry with the new ETag");
+	}
+}
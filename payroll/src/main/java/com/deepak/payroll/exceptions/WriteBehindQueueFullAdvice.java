@@ -0,0 +1,16 @@
+package com.deepak.payroll.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class WriteBehindQueueFullAdvice {
+
+  @ExceptionHandler(WriteBehindQueueFullException.class)
+  @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+  public String writeBehindQueueFullHandler(WriteBehindQueueFullException ex) {
+    return ex.getMessage();
+  }
+}
@@ -0,0 +1,14 @@
+package com.deepak.payroll.exceptions;
+
+public class WriteBehindQueueFullException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public WriteBehindQueueFullException() {
+		super("Too many pending employee updates, retry later");
+	}
+
+	public WriteBehindQueueFullException(String message) {
+		super(message);
+	}
+}
@@ -4,17 +4,30 @@ import java.util.Objects;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 //@Entity is a JPA annotation to make this object ready for storage in a JPA-based data store.
 
+//The indexes back GET /employees/search (role equality and name-prefix lookups).
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_employee_role", columnList = "role"),
+        @Index(name = "idx_employee_name", columnList = "name") })
 public class Employee {
     //id is marked with more JPA annotations to indicate that it is the primary key and is automatically populated by the JPA provider.
+    //The sequence hands out ids in blocks of 50 (pooled optimizer), so batched inserts don't need a round-trip per row.
     private @Id
-    @GeneratedValue Long id;
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_seq")
+    @SequenceGenerator(name = "employee_seq", sequenceName = "employee_seq", allocationSize = 50) Long id;
     private String name;
     private String role;
+    //@Version enables optimistic locking: Hibernate bumps it on every update and the ETag is derived from it.
+    private @Version Long version;
 
     Employee() {}
 
@@ -24,6 +37,14 @@ public class Employee {
         this.role = role;
     }
 
+    // Detached copy, used for anything that outlives the persistence context (e.g. the employee cache)
+    public Employee copy() {
+        Employee copy = new Employee(this.name, this.role);
+        copy.id = this.id;
+        copy.version = this.version;
+        return copy;
+    }
+
     public Long getId() {
         return this.id;
     }
@@ -36,6 +57,10 @@ public class Employee {
         return this.role;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
     public void setId(Long id) {
         this.id = id;
     }
@@ -48,6 +73,10 @@ public class Employee {
         this.role = role;
     }
 
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public boolean equals(Object o) {
 
@@ -67,6 +96,6 @@ public class Employee {
 
     @Override
     public String toString() {
-        return "Employee{" + "id=" + this.id + ", name='" + this.name + '\'' + ", role='" + this.role + '\'' + '}';
+        return "Employee{" + "id=" + this.id + ", name='" + this.name + '\'' + ", role='" + this.role + '\'' + ", version=" + this.version + '}';
     }
 }
\ No newline at end of file
@@ -1,8 +1,60 @@
 package com.deepak.payroll.repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.deepak.payroll.dto.EmployeeTableVersion;
 import com.deepak.payroll.model.Employee;
 
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
-}
\ No newline at end of file
+  // Keyset page: "WHERE id > :after ORDER BY id LIMIT :limit" walks the primary key index,
+  // so every page costs the same no matter how deep the client has scrolled.
+  List<Employee> findByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
+
+  // Cursor over the whole table. Must be consumed inside a transaction and closed by the caller.
+  @Query("select e from Employee e order by e.id")
+  @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true") })
+  Stream<Employee> streamAllByOrderByIdAsc();
+
+  // Search: equality on role and "name LIKE 'prefix%'" can both be answered from the column indexes.
+  Page<Employee> findByRole(String role, Pageable pageable);
+
+  Page<Employee> findByNameStartingWith(String namePrefix, Pageable pageable);
+
+  Page<Employee> findByRoleAndNameStartingWith(String role, String namePrefix, Pageable pageable);
+
+  // PUT without If-Match: a single UPDATE that bumps the version. Concurrent PUTs queue on the row lock, so
+  // none of them is lost between a read and a write. 0 rows means the employee doesn't exist; ids only ever
+  // come from employee_seq, so PUT never creates rows.
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update Employee e set e.name = :name, e.role = :role, e.version = e.version + 1 where e.id = :id")
+  int update(@Param("id") Long id, @Param("name") String name, @Param("role") String role);
+
+  // PUT with If-Match: compare-and-set on the version in a single UPDATE; 0 rows means the precondition failed.
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update Employee e set e.name = :name, e.role = :role, e.version = e.version + 1 where e.id = :id and e.version = :version")
+  int updateIfVersion(@Param("id") Long id, @Param("version") Long version, @Param("name") String name,
+      @Param("role") String role);
+
+  // Collection ETag source: a single aggregate row instead of the whole table.
+  @Query("""
+      select new com.deepak.payroll.dto.EmployeeTableVersion(
+          count(e), coalesce(max(e.id), 0L), coalesce(sum(e.id), 0L), coalesce(sum(e.version), 0L))
+      from Employee e""")
+  EmployeeTableVersion tableVersion();
+}
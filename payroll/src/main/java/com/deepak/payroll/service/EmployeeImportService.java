@@ -0,0 +1,93 @@
+package com.deepak.payroll.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deepak.payroll.dto.ImportReport;
+import com.deepak.payroll.dto.ImportReport.ChunkReport;
+import com.deepak.payroll.model.Employee;
+import com.deepak.payroll.repository.EmployeeRepository;
+
+import jakarta.persistence.EntityManager;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+// Loads employees from a JSON array or an NDJSON stream without ever holding the whole payload in memory.
+// Rows are parsed one by one and committed in chunks; each chunk is a single transaction whose inserts
+// Hibernate sends as JDBC batches (see hibernate.jdbc.batch_size in application.properties).
+@Service
+public class EmployeeImportService {
+
+  private static final Logger log = LoggerFactory.getLogger(EmployeeImportService.class);
+
+  private final EmployeeRepository repository;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectReader reader;
+  private final int chunkSize;
+
+  EmployeeImportService(EmployeeRepository repository, EntityManager entityManager,
+      PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+      @Value("${payroll.bulk.chunk-size:1000}") int chunkSize) {
+    this.repository = repository;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.reader = objectMapper.readerFor(Employee.class);
+    this.chunkSize = chunkSize;
+  }
+
+  public ImportReport importEmployees(InputStream body) throws IOException {
+    List<ChunkReport> chunks = new ArrayList<>();
+    List<Employee> chunk = new ArrayList<>(chunkSize);
+    int total = 0;
+    long start = System.nanoTime();
+
+    // readValues() unwraps a top-level JSON array and also accepts whitespace/newline separated documents.
+    try (MappingIterator<Employee> rows = reader.readValues(body)) {
+      while (rows.hasNextValue()) {
+        Employee employee = rows.nextValue();
+        employee.setId(null); // ids always come from the sequence
+        employee.setVersion(null);
+        chunk.add(employee);
+        if (chunk.size() == chunkSize) {
+          chunks.add(persist(chunks.size() + 1, chunk));
+          total += chunk.size();
+          chunk.clear();
+        }
+      }
+    }
+    if (!chunk.isEmpty()) {
+      chunks.add(persist(chunks.size() + 1, chunk));
+      total += chunk.size();
+    }
+
+    ImportReport report = ImportReport.of(total, System.nanoTime() - start, chunks);
+    log.info("Imported {} employees in {} chunks ({} rows/s)", report.rows(), chunks.size(),
+        Math.round(report.rowsPerSecond()));
+    return report;
+  }
+
+  // One transaction per chunk: flush sends the batched inserts, clear keeps the persistence context small.
+  private ChunkReport persist(int number, List<Employee> chunk) {
+    long start = System.nanoTime();
+    transactionTemplate.executeWithoutResult(status -> {
+      repository.saveAll(chunk);
+      entityManager.flush();
+      entityManager.clear();
+    });
+    ChunkReport report = ImportReport.chunk(number, chunk.size(), System.nanoTime() - start);
+    log.info("Chunk {}: {} rows in {} ms ({} rows/s)", number, report.rows(), report.elapsedMillis(),
+        Math.round(report.rowsPerSecond()));
+    return report;
+  }
+}
@@ -0,0 +1,143 @@
+package com.deepak.payroll.service;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.deepak.payroll.dto.EmployeeTableVersion;
+import com.deepak.payroll.exceptions.EmployeeNotFoundException;
+import com.deepak.payroll.exceptions.PreconditionFailedException;
+import com.deepak.payroll.model.Employee;
+import com.deepak.payroll.repository.EmployeeRepository;
+
+import jakarta.persistence.EntityManager;
+
+@Service
+public class EmployeeService {
+
+  // Caffeine cache in front of findById; size and TTL are set by spring.cache.caffeine.spec
+  public static final String EMPLOYEES_CACHE = "employees";
+
+  public static final int DEFAULT_PAGE_SIZE = 100;
+  public static final int MAX_PAGE_SIZE = 1000;
+
+  private final EmployeeRepository repository;
+  private final EntityManager entityManager;
+  private final Cache cache;
+
+  EmployeeService(EmployeeRepository repository, EntityManager entityManager, CacheManager cacheManager) {
+    this.repository = repository;
+    this.entityManager = entityManager;
+    this.cache = cacheManager.getCache(EMPLOYEES_CACHE);
+  }
+
+  // Read-through: hot ids are served from the cache, misses go to the database. Not-found is never cached.
+  // The cache holds a detached copy, never the entity managed by the (open-in-view) persistence context.
+  @Cacheable(cacheNames = EMPLOYEES_CACHE, key = "#id")
+  @Transactional(readOnly = true)
+  public Employee findById(Long id) {
+    return repository.findById(id)
+        .map(Employee::copy)
+        .orElseThrow(() -> new EmployeeNotFoundException(id));
+  }
+
+  @Transactional(readOnly = true)
+  public EmployeeTableVersion tableVersion() {
+    return repository.tableVersion();
+  }
+
+  @Transactional
+  public Employee create(Employee newEmployee) {
+    newEmployee.setId(null);
+    newEmployee.setVersion(null);
+    return repository.save(newEmployee);
+  }
+
+  // expectedVersion comes from If-Match (null when the header is absent).
+  // Without it the PUT is a single UPDATE of an existing row (404 if there is none); with it, a single
+  // conditional UPDATE that fails the precondition when the row is missing or has moved on.
+  // Only the conditional PUT knows the new version (expected + 1) without reading the row back, so only its
+  // result carries a version for the ETag; an unconditional PUT returns the employee with a null version.
+  @Transactional
+  public Employee replace(Long id, Employee newEmployee, Long expectedVersion) {
+    evictAfterCommit(id);
+    if (expectedVersion == null) {
+      if (repository.update(id, newEmployee.getName(), newEmployee.getRole()) == 0) {
+        throw new EmployeeNotFoundException(id);
+      }
+      newEmployee.setVersion(null);
+    } else {
+      if (repository.updateIfVersion(id, expectedVersion, newEmployee.getName(), newEmployee.getRole()) == 0) {
+        throw new PreconditionFailedException(id);
+      }
+      newEmployee.setVersion(expectedVersion + 1);
+    }
+    newEmployee.setId(id);
+    return newEmployee;
+  }
+
+  @Transactional
+  public void delete(Long id) {
+    evictAfterCommit(id);
+    repository.deleteById(id);
+  }
+
+  // Evicting before the commit would let a concurrent findById re-cache the old row in between, so the
+  // entry is dropped only once the new state is visible to other transactions.
+  private void evictAfterCommit(Long id) {
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        cache.evict(id);
+      }
+    });
+  }
+
+  // Returns at most 'limit' employees whose id is strictly greater than 'after'.
+  @Transactional(readOnly = true)
+  public List<Employee> page(Long after, int limit) {
+    int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    return repository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, Limit.of(size));
+  }
+
+  // Picks the narrowest derived query for the filters that were supplied; blank filters are ignored.
+  @Transactional(readOnly = true)
+  public Page<Employee> search(String role, String namePrefix, Pageable pageable) {
+    boolean byRole = role != null && !role.isBlank();
+    boolean byName = namePrefix != null && !namePrefix.isBlank();
+
+    if (byRole && byName) {
+      return repository.findByRoleAndNameStartingWith(role, namePrefix, pageable);
+    }
+    if (byRole) {
+      return repository.findByRole(role, pageable);
+    }
+    if (byName) {
+      return repository.findByNameStartingWith(namePrefix, pageable);
+    }
+    return repository.findAll(pageable);
+  }
+
+  // Hands every employee to the consumer one at a time. Rows are detached right after they are
+  // consumed so the persistence context (and the heap) stays flat regardless of table size.
+  @Transactional(readOnly = true)
+  public void forEach(Consumer<Employee> consumer) {
+    try (Stream<Employee> employees = repository.streamAllByOrderByIdAsc()) {
+      employees.forEach(employee -> {
+        consumer.accept(employee);
+        entityManager.detach(employee);
+      });
+    }
+  }
+}
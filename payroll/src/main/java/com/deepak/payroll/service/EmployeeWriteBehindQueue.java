@@ -0,0 +1,322 @@
+package com.deepak.payroll.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deepak.payroll.exceptions.WriteBehindQueueFullException;
+import com.deepak.payroll.model.Employee;
+import com.deepak.payroll.repository.EmployeeRepository;
+
+import jakarta.annotation.PreDestroy;
+
+// Optional write-behind mode (payroll.write-behind.enabled=true).
+// POST/PUT/DELETE only enqueue their change and return 202; a single flusher thread applies the queue in one
+// transaction whenever batch-size changes are pending or flush-interval-ms has elapsed, whichever comes first.
+// Updates and deletes are keyed by id, so repeated writes to the same employee collapse into the latest one.
+// The queue is bounded: once it holds 'capacity' ids, writers wait up to offer-timeout-ms and then get a 503.
+// A batch that fails is bisected so the good changes still commit; a single change that keeps failing is
+// retried on later flushes up to max-attempts times and then moved to the dead-letter list, as is a PUT
+// for an id that doesn't exist.
+// Whatever is still queued when the application shuts down is flushed before the context closes; writes that
+// arrive after that point are rejected with a 503.
+@Component
+@ConditionalOnProperty(name = "payroll.write-behind.enabled", havingValue = "true")
+public class EmployeeWriteBehindQueue {
+
+  private static final Logger log = LoggerFactory.getLogger(EmployeeWriteBehindQueue.class);
+
+  // id is null for an insert, employee is null for a delete; error is the last failure, if any
+  private record Change(Long id, Employee employee, int attempts, String error) {
+
+    Change(Long id, Employee employee) {
+      this(id, employee, 0, null);
+    }
+
+    Change failed(RuntimeException e) {
+      return new Change(id, employee, attempts + 1, String.valueOf(e.getMessage()));
+    }
+
+    // save() gave an insert its id and version inside the transaction that just rolled back; they are void,
+    // and a retry that kept them would merge against a row that doesn't exist
+    void rolledBack() {
+      if (id == null) {
+        employee.setId(null);
+        employee.setVersion(null);
+      }
+    }
+  }
+
+  // A change that failed max-attempts times; it is logged and kept here instead of being retried forever
+  public record DeadLetter(Long id, Employee employee, String error) {
+  }
+
+  private final EmployeeRepository repository;
+  private final TransactionTemplate transactionTemplate;
+  private final Cache cache;
+  private final int capacity;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final long offerTimeoutMillis;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notFull = lock.newCondition();
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private LinkedHashMap<Long, Change> pending = new LinkedHashMap<>();
+  private List<Change> inserts = new ArrayList<>();
+  private final Deque<DeadLetter> deadLetters = new ArrayDeque<>(); // guarded by lock, at most 'capacity' entries
+  private boolean closed; // guarded by lock
+
+  private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "employee-write-behind");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  EmployeeWriteBehindQueue(EmployeeRepository repository, PlatformTransactionManager transactionManager,
+      CacheManager cacheManager,
+      @Value("${payroll.write-behind.capacity:10000}") int capacity,
+      @Value("${payroll.write-behind.batch-size:500}") int batchSize,
+      @Value("${payroll.write-behind.max-attempts:5}") int maxAttempts,
+      @Value("${payroll.write-behind.flush-interval-ms:200}") long flushIntervalMillis,
+      @Value("${payroll.write-behind.offer-timeout-ms:1000}") long offerTimeoutMillis) {
+    this.repository = repository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.cache = cacheManager.getCache(EmployeeService.EMPLOYEES_CACHE);
+    this.capacity = capacity;
+    this.batchSize = batchSize;
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.offerTimeoutMillis = offerTimeoutMillis;
+    flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  public void create(Employee employee) {
+    employee.setId(null);
+    employee.setVersion(null);
+    offer(null, () -> inserts.add(new Change(null, employee)));
+  }
+
+  public void replace(Long id, Employee employee) {
+    offer(id, () -> pending.put(id, new Change(id, employee)));
+  }
+
+  public void delete(Long id) {
+    offer(id, () -> pending.put(id, new Change(id, null)));
+  }
+
+  public int size() {
+    lock.lock();
+    try {
+      return pending.size() + inserts.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public List<DeadLetter> deadLetters() {
+    lock.lock();
+    try {
+      return List.copyOf(deadLetters);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Applies everything queued so far. Safe to call from any thread.
+  // Returns normally even if some changes failed: those are re-queued or dead-lettered.
+  public void flush() {
+    flushLock.lock();
+    try {
+      List<Change> batch;
+      lock.lock();
+      try {
+        if (pending.isEmpty() && inserts.isEmpty()) {
+          return;
+        }
+        batch = new ArrayList<>(inserts.size() + pending.size());
+        batch.addAll(inserts);
+        batch.addAll(pending.values());
+        pending = new LinkedHashMap<>();
+        inserts = new ArrayList<>();
+        notFull.signalAll();
+      } finally {
+        lock.unlock();
+      }
+
+      long start = System.nanoTime();
+      List<Change> failed = new ArrayList<>();
+      applyOrBisect(batch, failed);
+      if (!failed.isEmpty()) {
+        requeue(failed);
+      }
+      log.debug("Write-behind flushed {} of {} changes in {} ms", batch.size() - failed.size(), batch.size(),
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  @PreDestroy
+  void shutdown() throws InterruptedException {
+    lock.lock();
+    try {
+      closed = true;
+    } finally {
+      lock.unlock();
+    }
+    flusher.shutdown();
+    flusher.awaitTermination(10, TimeUnit.SECONDS);
+    flush();
+    log.info("Write-behind queue drained on shutdown ({} changes left, {} dead letters)", size(),
+        deadLetters().size());
+  }
+
+  private void offer(Long id, Runnable add) {
+    boolean trigger;
+    lock.lock();
+    try {
+      if (closed) {
+        throw new WriteBehindQueueFullException("Shutting down, employee updates are no longer accepted");
+      }
+      long remaining = TimeUnit.MILLISECONDS.toNanos(offerTimeoutMillis);
+      // A write that replaces an already-queued id doesn't take a new slot, so it never waits
+      while (!(id != null && pending.containsKey(id)) && pending.size() + inserts.size() >= capacity) {
+        if (remaining <= 0) {
+          throw new WriteBehindQueueFullException();
+        }
+        remaining = notFull.awaitNanos(remaining);
+      }
+      add.run();
+      trigger = pending.size() + inserts.size() >= batchSize;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new WriteBehindQueueFullException();
+    } finally {
+      lock.unlock();
+    }
+    if (trigger) {
+      try {
+        flusher.execute(this::flushQuietly);
+      } catch (RejectedExecutionException e) {
+        // shutdown() began after the change was queued; its final flush picks the change up
+      }
+    }
+  }
+
+  // One transaction for the whole batch. If it fails, the two halves are retried separately, down to
+  // single changes, so one bad row costs O(log n) extra transactions instead of blocking the rest.
+  private void applyOrBisect(List<Change> batch, List<Change> failed) {
+    try {
+      List<Change> missing = apply(batch);
+      if (!missing.isEmpty()) {
+        lock.lock();
+        try {
+          missing.forEach(this::deadLetter);
+        } finally {
+          lock.unlock();
+        }
+      }
+    } catch (RuntimeException e) {
+      batch.forEach(Change::rolledBack);
+      if (batch.size() == 1) {
+        log.warn("Write-behind change for employee {} failed (attempt {} of {})", batch.get(0).id(),
+            batch.get(0).attempts() + 1, maxAttempts, e);
+        failed.add(batch.get(0).failed(e));
+        return;
+      }
+      int middle = batch.size() / 2;
+      applyOrBisect(batch.subList(0, middle), failed);
+      applyOrBisect(batch.subList(middle, batch.size()), failed);
+    }
+  }
+
+  // Returns the updates whose employee doesn't exist. PUT never creates rows (ids only come from
+  // employee_seq), so those are dead-lettered straight away rather than retried.
+  private List<Change> apply(List<Change> batch) {
+    List<Change> missing = new ArrayList<>();
+    transactionTemplate.executeWithoutResult(status -> {
+      missing.clear();
+      for (Change change : batch) {
+        if (change.id() == null) {
+          repository.save(change.employee());
+        } else if (change.employee() == null) {
+          repository.deleteById(change.id());
+        } else {
+          Employee newEmployee = change.employee();
+          repository.findById(change.id()).ifPresentOrElse(employee -> {
+            employee.setName(newEmployee.getName());
+            employee.setRole(newEmployee.getRole());
+          }, () -> missing.add(new Change(change.id(), newEmployee, change.attempts(),
+              "Could not find employee " + change.id())));
+        }
+      }
+    });
+    for (Change change : batch) {
+      if (change.id() != null) {
+        cache.evict(change.id());
+      }
+    }
+    return missing;
+  }
+
+  // Changes that arrived while the failed batch was running are newer, so they win over the re-queued ones.
+  // A change that has used up its attempts goes to the dead-letter list instead.
+  private void requeue(List<Change> failed) {
+    lock.lock();
+    try {
+      LinkedHashMap<Long, Change> merged = new LinkedHashMap<>();
+      List<Change> retriedInserts = new ArrayList<>();
+      for (Change change : failed) {
+        if (change.attempts() >= maxAttempts) {
+          deadLetter(change);
+        } else if (change.id() == null) {
+          retriedInserts.add(change);
+        } else {
+          merged.put(change.id(), change);
+        }
+      }
+      merged.putAll(pending);
+      pending = merged;
+      retriedInserts.addAll(inserts);
+      inserts = retriedInserts;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void deadLetter(Change change) {
+    log.error("Write-behind change for employee {} moved to the dead-letter list after {} failed attempts: {} ({})",
+        change.id(), change.attempts(), change.employee(), change.error());
+    if (deadLetters.size() >= capacity) {
+      deadLetters.removeFirst();
+    }
+    deadLetters.addLast(new DeadLetter(change.id(), change.employee(), change.error()));
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      log.error("Write-behind flush failed", e);
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package com.deepak.payroll.reactive;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.deepak.payroll.exceptions.PreconditionFailedException;
+import com.deepak.payroll.model.Employee;
+
+import reactor.core.publisher.Mono;
+
+// Functional-endpoint version of EmployeeController's operations.
+@Component
+@Profile("reactive")
+class EmployeeHandler {
+
+  private final ReactiveEmployeeRepository repository;
+
+  EmployeeHandler(ReactiveEmployeeRepository repository) {
+    this.repository = repository;
+  }
+
+  // The Flux is written as rows arrive: NDJSON when the client asks for it, otherwise a streamed JSON array
+  Mono<ServerResponse> all(ServerRequest request) {
+    MediaType type = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+        ? MediaType.APPLICATION_NDJSON
+        : MediaType.APPLICATION_JSON;
+    return ServerResponse.ok().contentType(type).body(repository.findAll(), Employee.class);
+  }
+
+  Mono<ServerResponse> one(ServerRequest request) {
+    Long id = id(request);
+    return repository.findById(id)
+        .flatMap(employee -> ServerResponse.ok().eTag(etag(employee)).bodyValue(employee))
+        .switchIfEmpty(notFound(id));
+  }
+
+  Mono<ServerResponse> create(ServerRequest request) {
+    return request.bodyToMono(Employee.class)
+        .flatMap(repository::insert)
+        .flatMap(employee -> ServerResponse.ok().bodyValue(employee));
+  }
+
+  // Same semantics as the MVC PUT: If-Match: "<version>" makes it a compare-and-set that answers 412 when the
+  // row has moved on; without the header (or with "*") it updates in place and an unknown id is a 404, since
+  // employees are only created by POST, with ids from employee_seq.
+  Mono<ServerResponse> replace(ServerRequest request) {
+    Long id = id(request);
+    Long expectedVersion;
+    try {
+      expectedVersion = expectedVersion(id, request.headers().firstHeader(HttpHeaders.IF_MATCH));
+    } catch (PreconditionFailedException e) {
+      return preconditionFailed(e);
+    }
+    if (expectedVersion != null) {
+      return request.bodyToMono(Employee.class)
+          .flatMap(employee -> repository.updateIfVersion(id, expectedVersion, employee)
+              .flatMap(rows -> {
+                if (rows == 0) {
+                  return preconditionFailed(new PreconditionFailedException(id));
+                }
+                employee.setId(id);
+                employee.setVersion(expectedVersion + 1);
+                return ServerResponse.ok().eTag(etag(employee)).bodyValue(employee);
+              }));
+    }
+    // Unconditional PUT: one UPDATE and no read-back, so there is no version to send as an ETag
+    return request.bodyToMono(Employee.class)
+        .flatMap(employee -> repository.update(id, employee)
+            .flatMap(rows -> {
+              if (rows == 0) {
+                return Mono.<Employee>empty();
+              }
+              employee.setId(id);
+              employee.setVersion(null);
+              return Mono.just(employee);
+            }))
+        .flatMap(employee -> ServerResponse.ok().bodyValue(employee))
+        .switchIfEmpty(notFound(id));
+  }
+
+  Mono<ServerResponse> delete(ServerRequest request) {
+    return repository.deleteById(id(request)).then(ServerResponse.ok().build());
+  }
+
+  private static Long id(ServerRequest request) {
+    return Long.valueOf(request.pathVariable("id"));
+  }
+
+  private static String etag(Employee employee) {
+    return "\"" + employee.getVersion() + "\"";
+  }
+
+  // Same parsing as EmployeeController: absent or "*" accepts any version, weak or malformed tags never match
+  private static Long expectedVersion(Long id, String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+      return null;
+    }
+    String tag = ifMatch.trim();
+    if (tag.startsWith("W/") || tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+      throw new PreconditionFailedException(id);
+    }
+    try {
+      return Long.valueOf(tag.substring(1, tag.length() - 1));
+    } catch (NumberFormatException e) {
+      throw new PreconditionFailedException(id);
+    }
+  }
+
+  private static Mono<ServerResponse> preconditionFailed(PreconditionFailedException e) {
+    return ServerResponse.status(HttpStatus.PRECONDITION_FAILED)
+        .contentType(MediaType.TEXT_PLAIN)
+        .bodyValue(e.getMessage());
+  }
+
+  private static Mono<ServerResponse> notFound(Long id) {
+    return ServerResponse.status(HttpStatus.NOT_FOUND)
+        .contentType(MediaType.TEXT_PLAIN)
+        .bodyValue("Could not find employee " + id);
+  }
+}
@@ -0,0 +1,26 @@
+package com.deepak.payroll.reactive;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+// Routes for the "reactive" profile; the paths mirror EmployeeController.
+@Configuration
+@Profile("reactive")
+class EmployeeRouter {
+
+  @Bean
+  RouterFunction<ServerResponse> employeeRoutes(EmployeeHandler handler) {
+    return route()
+        .GET("/employees", handler::all)
+        .POST("/employees", handler::create)
+        .GET("/employees/{id}", handler::one)
+        .PUT("/employees/{id}", handler::replace)
+        .DELETE("/employees/{id}", handler::delete)
+        .build();
+  }
+}
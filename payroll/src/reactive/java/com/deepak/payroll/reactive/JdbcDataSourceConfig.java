@@ -0,0 +1,25 @@
+package com.deepak.payroll.reactive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// DataSourceAutoConfiguration backs off as soon as an R2DBC ConnectionFactory is present, which would leave
+// JPA (schema creation, LoadDatabase) without a DataSource. Declare the JDBC pool explicitly from the usual
+// spring.datasource.* and spring.datasource.hikari.* properties so both stacks run side by side.
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(DataSourceProperties.class)
+class JdbcDataSourceConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  HikariDataSource dataSource(DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+}
@@ -0,0 +1,96 @@
+package com.deepak.payroll.reactive;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+
+import com.deepak.payroll.model.Employee;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Non-blocking counterpart of EmployeeRepository on top of R2DBC. It works on the same "employee" table
+// that Hibernate creates, with plain SQL so the JPA entity needs no R2DBC-specific mapping.
+@Repository
+@Profile("reactive")
+public class ReactiveEmployeeRepository {
+
+  private static final String COLUMNS = "id, name, role, version";
+
+  private final DatabaseClient client;
+
+  ReactiveEmployeeRepository(DatabaseClient client) {
+    this.client = client;
+  }
+
+  public Flux<Employee> findAll() {
+    return client.sql("SELECT " + COLUMNS + " FROM employee ORDER BY id")
+        .map(ReactiveEmployeeRepository::toEmployee)
+        .all();
+  }
+
+  public Mono<Employee> findById(Long id) {
+    return client.sql("SELECT " + COLUMNS + " FROM employee WHERE id = :id")
+        .bind("id", id)
+        .map(ReactiveEmployeeRepository::toEmployee)
+        .one();
+  }
+
+  // Takes its id from the same sequence Hibernate uses, so both stacks can insert without colliding
+  public Mono<Employee> insert(Employee employee) {
+    return client.sql("SELECT NEXT VALUE FOR employee_seq")
+        .map(row -> row.get(0, Long.class))
+        .one()
+        .flatMap(id -> bindNameAndRole(client.sql(
+                "INSERT INTO employee (" + COLUMNS + ") VALUES (:id, :name, :role, 0)"), employee)
+            .bind("id", id)
+            .fetch()
+            .rowsUpdated()
+            .map(rows -> {
+              employee.setId(id);
+              employee.setVersion(0L);
+              return employee;
+            }));
+  }
+
+  // Same optimistic-locking contract as @Version on the JPA side: every update bumps the version
+  public Mono<Long> update(Long id, Employee employee) {
+    return bindNameAndRole(client.sql(
+            "UPDATE employee SET name = :name, role = :role, version = version + 1 WHERE id = :id"), employee)
+        .bind("id", id)
+        .fetch()
+        .rowsUpdated();
+  }
+
+  // If-Match variant: compare-and-set on the version; 0 rows means the precondition failed
+  public Mono<Long> updateIfVersion(Long id, Long version, Employee employee) {
+    return bindNameAndRole(client.sql(
+            "UPDATE employee SET name = :name, role = :role, version = version + 1 WHERE id = :id AND version = :version"),
+            employee)
+        .bind("id", id)
+        .bind("version", version)
+        .fetch()
+        .rowsUpdated();
+  }
+
+  public Mono<Long> deleteById(Long id) {
+    return client.sql("DELETE FROM employee WHERE id = :id")
+        .bind("id", id)
+        .fetch()
+        .rowsUpdated();
+  }
+
+  private static GenericExecuteSpec bindNameAndRole(GenericExecuteSpec spec, Employee employee) {
+    spec = employee.getName() == null ? spec.bindNull("name", String.class) : spec.bind("name", employee.getName());
+    return employee.getRole() == null ? spec.bindNull("role", String.class) : spec.bind("role", employee.getRole());
+  }
+
+  private static Employee toEmployee(Readable row) {
+    Employee employee = new Employee(row.get("name", String.class), row.get("role", String.class));
+    employee.setId(row.get("id", Long.class));
+    employee.setVersion(row.get("version", Long.class));
+    return employee;
+  }
+}
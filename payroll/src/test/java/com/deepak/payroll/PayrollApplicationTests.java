@@ -1,13 +1,31 @@
 package com.deepak.payroll;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import javax.sql.DataSource;
+
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.web.context.WebApplicationContext;
 
 @SpringBootTest
 class PayrollApplicationTests {
 
+	@Autowired
+	private ApplicationContext context;
+
 	@Test
 	void contextLoads() {
 	}
 
+	// The default build is the Spring MVC app on JDBC; the reactive stack only comes in with -Preactive
+	@Test
+	void defaultBuildStartsTheServletStackWithAJdbcDataSource() {
+		assertInstanceOf(WebApplicationContext.class, context);
+		assertEquals(1, context.getBeanNamesForType(DataSource.class).length);
+	}
+
 }
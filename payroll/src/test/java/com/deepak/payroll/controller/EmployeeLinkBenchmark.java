@@ -0,0 +1,77 @@
+package com.deepak.payroll.controller;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.deepak.payroll.model.Employee;
+
+// Compares the old per-request linkTo(methodOn(...)) assembly of GET /employees/{id}
+// with EmployeeModelAssembler's precomputed templates. Run on its own with:
+//   ./mvnw test-compile exec:exec -Djmh.args="EmployeeLinkBenchmark"
+// Add -prof gc to jmh.args to compare allocation rates as well.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeLinkBenchmark {
+
+  private EmployeeModelAssembler assembler;
+  private Employee employee;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    // Both paths read the base URI from the current request, as they would inside Spring MVC
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees/42");
+    request.setServerPort(8081);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+    assembler = new EmployeeModelAssembler();
+    employee = new Employee("Ramesh Sharma", "Software Tester");
+    employee.setId(42L);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Benchmark
+  public EntityModel<Employee> perRequestLinkTo() {
+    Long id = employee.getId();
+    return EntityModel.of(employee,
+        linkTo(methodOn(EmployeeController.class).one(id, null)).withSelfRel(),
+        linkTo(methodOn(EmployeeController.class).all(null)).withRel("employees"));
+  }
+
+  @Benchmark
+  public EntityModel<Employee> precomputedTemplates() {
+    return assembler.toModel(employee);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(EmployeeLinkBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -0,0 +1,40 @@
+package com.deepak.payroll.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.deepak.payroll.model.Employee;
+
+class EmployeeModelAssemblerTest {
+
+  @BeforeEach
+  void bindRequest() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees/42");
+    request.setServerPort(8081);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+
+  @AfterEach
+  void resetRequest() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void linksAreExpandedAgainstTheCurrentRequest() {
+    Employee employee = new Employee("Ramesh Sharma", "Software Tester");
+    employee.setId(42L);
+
+    EntityModel<Employee> model = new EmployeeModelAssembler().toModel(employee);
+
+    assertEquals("http://localhost:8081/employees/42", model.getRequiredLink(IanaLinkRelations.SELF).getHref());
+    assertEquals("http://localhost:8081/employees", model.getRequiredLink("employees").getHref());
+  }
+}
@@ -0,0 +1,99 @@
+package com.deepak.payroll.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Closed-loop load generator: N clients, each on its own virtual thread, issue GETs back to back for a
+// fixed duration. Compare the two server modes by starting the app once normally and once with
+// --spring.profiles.active=virtual, then running e.g.
+//
+//   java ... LoadTestHarness http://localhost:8081/employees/1 1000 30
+//   java ... LoadTestHarness http://localhost:8081/employees/1 10000 30
+//
+// (exceptionHandling and roleAccess work the same way, e.g. http://localhost:8080/users/1.)
+// Each run prints throughput, error count (including 503s from ConnectionPoolLimiter) and latency percentiles.
+public class LoadTestHarness {
+
+  public static void main(String[] args) throws Exception {
+    URI target = URI.create(args.length > 0 ? args[0] : "http://localhost:8081/employees/1");
+    int clients = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+    int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+    HttpClient http = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+    HttpRequest request = HttpRequest.newBuilder(target).timeout(Duration.ofSeconds(30)).GET().build();
+
+    AtomicLong ok = new AtomicLong();
+    AtomicLong errors = new AtomicLong();
+    long[][] latencies = new long[clients][];
+    int[] counts = new int[clients];
+    CountDownLatch done = new CountDownLatch(clients);
+    long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+    try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int c = 0; c < clients; c++) {
+        int client = c;
+        pool.submit(() -> {
+          long[] samples = new long[1024];
+          int n = 0;
+          try {
+            while (System.nanoTime() < deadline) {
+              long start = System.nanoTime();
+              try {
+                HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() < 400) {
+                  ok.incrementAndGet();
+                } else {
+                  errors.incrementAndGet();
+                }
+              } catch (Exception e) {
+                errors.incrementAndGet();
+              }
+              if (n == samples.length) {
+                samples = Arrays.copyOf(samples, n * 2);
+              }
+              samples[n++] = System.nanoTime() - start;
+            }
+          } finally {
+            latencies[client] = samples;
+            counts[client] = n;
+            done.countDown();
+          }
+        });
+      }
+      done.await();
+    }
+
+    long[] all = new long[Arrays.stream(counts).sum()];
+    int offset = 0;
+    for (int c = 0; c < clients; c++) {
+      System.arraycopy(latencies[c], 0, all, offset, counts[c]);
+      offset += counts[c];
+    }
+    Arrays.sort(all);
+
+    System.out.printf("%s clients=%d duration=%ds%n", target, clients, seconds);
+    System.out.printf("  ok=%d errors=%d throughput=%.0f req/s%n", ok.get(), errors.get(),
+        (ok.get() + errors.get()) / (double) seconds);
+    System.out.printf("  latency ms p50=%.1f p90=%.1f p99=%.1f max=%.1f%n",
+        percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99), percentile(all, 1.0));
+  }
+
+  private static double percentile(long[] sorted, double p) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+    return sorted[Math.max(index, 0)] / 1_000_000d;
+  }
+}
@@ -0,0 +1,58 @@
+package com.deepak.payroll.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+// Request/response body (de)serialization of Employee through a reader/writer bound once up front,
+// the way Spring's message converters cache them. Run on its own with:
+//   ./mvnw test-compile exec:exec -Djmh.args="EmployeeJsonBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeJsonBenchmark {
+
+  private ObjectWriter writer;
+  private ObjectReader reader;
+  private Employee employee;
+  private byte[] json;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper mapper = JsonMapper.builder().build();
+    writer = mapper.writerFor(Employee.class);
+    reader = mapper.readerFor(Employee.class);
+
+    employee = new Employee("Ramesh Sharma", "Software Tester");
+    employee.setId(42L);
+    employee.setVersion(3L);
+    json = writer.writeValueAsBytes(employee);
+  }
+
+  @Benchmark
+  public byte[] write() {
+    return writer.writeValueAsBytes(employee);
+  }
+
+  @Benchmark
+  public Employee read() {
+    return reader.readValue(json);
+  }
+}
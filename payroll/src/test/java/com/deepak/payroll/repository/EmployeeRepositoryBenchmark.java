@@ -0,0 +1,62 @@
+package com.deepak.payroll.repository;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.deepak.payroll.PayrollApplication;
+import com.deepak.payroll.model.Employee;
+
+// findById/save round-trips through EmployeeRepository against the default in-memory H2 database,
+// i.e. the JPA + JDBC cost underneath GET /employees/{id} and POST /employees. The application
+// context is booted without a web server. Run on its own with:
+//   ./mvnw test-compile exec:exec -Djmh.args="EmployeeRepositoryBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeRepositoryBenchmark {
+
+  private ConfigurableApplicationContext context;
+  private EmployeeRepository employees;
+  private Long existingId;
+
+  @Setup
+  public void setUp() {
+    SpringApplication app = new SpringApplication(PayrollApplication.class);
+    app.setWebApplicationType(WebApplicationType.NONE);
+    context = app.run("--spring.jmx.enabled=false", "--logging.level.root=WARN");
+    employees = context.getBean(EmployeeRepository.class);
+    existingId = employees.save(new Employee("Ramesh Sharma", "Software Tester")).getId();
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Employee findById() {
+    return employees.findById(existingId).orElseThrow();
+  }
+
+  @Benchmark
+  public Employee save() {
+    return employees.save(new Employee("Suresh Kumar", "Developer"));
+  }
+}
@@ -0,0 +1,142 @@
+package com.deepak.payroll.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.deepak.payroll.exceptions.EmployeeNotFoundException;
+import com.deepak.payroll.exceptions.PreconditionFailedException;
+import com.deepak.payroll.model.Employee;
+import com.deepak.payroll.repository.EmployeeRepository;
+
+@SpringBootTest
+class EmployeeUpsertConcurrencyTest {
+
+  private static final int THREADS = 16;
+  private static final int UPDATES_PER_THREAD = 50;
+  private static final int ID_BLOCK = 60; // more than one employee_seq allocation (50)
+
+  @Autowired
+  private EmployeeService employeeService;
+
+  @Autowired
+  private EmployeeRepository repository;
+
+  @Test
+  void concurrentPutsToTheSameIdAreNeverLost() throws Exception {
+    Employee saved = employeeService.create(new Employee("Initial", "Tester"));
+    long startVersion = saved.getVersion();
+
+    runConcurrently(thread -> {
+      for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+        employeeService.replace(saved.getId(), new Employee("Name " + thread + "-" + i, "Role " + thread), null);
+      }
+      return null;
+    });
+
+    // Every upsert bumped the version exactly once, so the final version counts all of them
+    Employee reloaded = repository.findById(saved.getId()).orElseThrow();
+    assertEquals(startVersion + THREADS * UPDATES_PER_THREAD, reloaded.getVersion());
+  }
+
+  @Test
+  void onlyOneConditionalPutWinsForTheSameVersion() throws Exception {
+    Employee saved = employeeService.create(new Employee("Initial", "Tester"));
+    long version = saved.getVersion();
+    AtomicInteger succeeded = new AtomicInteger();
+    AtomicInteger rejected = new AtomicInteger();
+
+    runConcurrently(thread -> {
+      try {
+        employeeService.replace(saved.getId(), new Employee("Name " + thread, "Role"), version);
+        succeeded.incrementAndGet();
+      } catch (PreconditionFailedException e) {
+        rejected.incrementAndGet();
+      }
+      return null;
+    });
+
+    assertEquals(1, succeeded.get());
+    assertEquals(THREADS - 1, rejected.get());
+    assertEquals(version + 1, repository.findById(saved.getId()).orElseThrow().getVersion());
+  }
+
+  @Test
+  void plainPutIsASingleUpdateWithoutAVersion() {
+    Employee saved = employeeService.create(new Employee("Initial", "Tester"));
+
+    Employee replaced = employeeService.replace(saved.getId(), new Employee("Renamed", "Tester"), null);
+
+    // no read-back, so no version (and no ETag); the row itself still moved on by one
+    assertNull(replaced.getVersion());
+    Employee reloaded = repository.findById(saved.getId()).orElseThrow();
+    assertEquals(saved.getVersion() + 1, reloaded.getVersion());
+    assertEquals("Renamed", reloaded.getName());
+  }
+
+  @Test
+  void conditionalPutReturnsTheNewVersion() {
+    Employee saved = employeeService.create(new Employee("Initial", "Tester"));
+
+    Employee replaced = employeeService.replace(saved.getId(), new Employee("Renamed", "Tester"), saved.getVersion());
+
+    assertEquals(saved.getVersion() + 1, replaced.getVersion());
+    assertEquals(replaced.getVersion(), repository.findById(saved.getId()).orElseThrow().getVersion());
+  }
+
+  // A PUT used to insert the client's id, which employee_seq would later hand out to a POST as well
+  @Test
+  void putToAnUnknownIdIsRejectedSoLaterPostsCannotCollide() {
+    Employee saved = employeeService.create(new Employee("Initial", "Tester"));
+    long nextIds = saved.getId() + 1;
+
+    for (long id = nextIds; id < nextIds + ID_BLOCK; id++) {
+      long unknown = id;
+      assertThrows(EmployeeNotFoundException.class,
+          () -> employeeService.replace(unknown, new Employee("Squatter", "Tester"), null));
+    }
+    for (int i = 0; i < ID_BLOCK; i++) {
+      Employee created = employeeService.create(new Employee("New " + i, "Tester"));
+      assertEquals("New " + i, repository.findById(created.getId()).orElseThrow().getName());
+    }
+  }
+
+  private interface Work {
+    Void run(int thread) throws Exception;
+  }
+
+  private static void runConcurrently(Work work) throws Exception {
+    ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Void>> futures = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        int thread = t;
+        Callable<Void> task = () -> {
+          start.await();
+          return work.run(thread);
+        };
+        futures.add(pool.submit(task));
+      }
+      start.countDown();
+      for (Future<Void> future : futures) {
+        future.get(); // rethrows anything that failed in a worker
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.deepak.payroll.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.deepak.payroll.model.Employee;
+import com.deepak.payroll.repository.EmployeeRepository;
+
+@SpringBootTest
+class EmployeeWriteBehindQueueTest {
+
+  private static final long NEVER = 3_600_000; // flush only when the test calls flush()
+
+  @Autowired
+  private EmployeeRepository repository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  private EmployeeWriteBehindQueue queue;
+
+  @BeforeEach
+  void createQueue() {
+    // max-attempts 1: a change that fails on its own is dead-lettered by the first flush
+    queue = new EmployeeWriteBehindQueue(repository, transactionManager, cacheManager, 100, 100, 1, NEVER, 1000);
+  }
+
+  @AfterEach
+  void shutdownQueue() throws InterruptedException {
+    queue.shutdown();
+  }
+
+  @Test
+  void goodInsertsNextToABadOneAreStillWritten() {
+    String role = "write-behind-" + System.nanoTime();
+    for (int i = 0; i < 3; i++) {
+      queue.create(new Employee("Good " + i, role));
+    }
+    queue.create(new Employee("x".repeat(300), role)); // longer than the name column
+    for (int i = 3; i < 6; i++) {
+      queue.create(new Employee("Good " + i, role));
+    }
+
+    queue.flush();
+
+    List<String> written = repository.findAll().stream()
+        .filter(employee -> role.equals(employee.getRole()))
+        .map(Employee::getName)
+        .sorted()
+        .toList();
+    assertEquals(List.of("Good 0", "Good 1", "Good 2", "Good 3", "Good 4", "Good 5"), written);
+    assertEquals(1, queue.deadLetters().size());
+    assertEquals(300, queue.deadLetters().get(0).employee().getName().length());
+    assertEquals(0, queue.size());
+  }
+}